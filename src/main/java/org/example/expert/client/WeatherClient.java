@@ -1,27 +1,64 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.config.jfr.WeatherCallEvent;
+import org.example.expert.config.timing.ServerTiming;
 import org.example.expert.domain.common.exception.ServerException;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 public class WeatherClient {
 
+    private static final String METRIC_NAME = "weather.client.requests";
+
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    public WeatherClient(RestTemplateBuilder builder, MeterRegistry meterRegistry) {
         this.restTemplate = builder.build();
+        this.meterRegistry = meterRegistry;
     }
 
+    /**
+     * 호출 시간을 결과(outcome)별로 기록합니다. 통신 실패와 응답 내용 문제를 구분해 볼 수 있도록 outcome을 나눕니다.
+     */
     public String getTodayWeather() {
+        WeatherCallEvent event = new WeatherCallEvent();
+        event.begin();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "ERROR";
+        try {
+            String weather = fetchTodayWeather();
+            outcome = "SUCCESS";
+            return weather;
+        } catch (RestClientException e) {
+            outcome = "IO_ERROR";
+            throw e;
+        } catch (ServerException e) {
+            outcome = "INVALID_RESPONSE";
+            throw e;
+        } finally {
+            long elapsedNanos = sample.stop(meterRegistry.timer(METRIC_NAME, "outcome", outcome));
+            ServerTiming.record(ServerTiming.Phase.WEATHER, elapsedNanos);
+            if (event.shouldCommit()) {
+                event.setOutcome(outcome);
+                event.commit();
+            }
+        }
+    }
+
+    private String fetchTodayWeather() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
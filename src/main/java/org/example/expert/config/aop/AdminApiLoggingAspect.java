@@ -1,89 +1,67 @@
 package org.example.expert.config.aop;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.trace.TraceContext;
+import org.example.expert.config.trace.TraceIdGenerator;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-@Slf4j
+/**
+ * 관리자 API의 요청/응답을 기록합니다. 요청 스레드에서는 본문을 한도까지만 직렬화한 불변 이벤트를 만들어 넘기고,
+ * 로그 항목 조립과 출력은 {@link AdminLogPipeline}이 합니다.
+ * 본문 파라미터 위치 등은 {@link AdminLogMetadataRegistry}에 미리 계산해 둔 값을 씁니다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminApiLoggingAspect {
 
-    private final ObjectMapper objectMapper;
+    private final AdminLogPipeline adminLogPipeline;
+    private final AdminLogMetadataRegistry adminLogMetadataRegistry;
 
     @Around("@annotation(org.example.expert.domain.common.annotation.AdminLog)")
     public Object logAdminApiExecution(ProceedingJoinPoint pjp) throws Throwable {
-        String traceId = UUID.randomUUID().toString();
+        AdminLogMetadata metadata = adminLogMetadataRegistry.get(((MethodSignature) pjp.getSignature()).getMethod());
+        // 요청 전체의 trace id를 이어 쓰고, 필터를 거치지 않은 호출에서만 새로 만듦
+        String traceId = TraceContext.currentTraceId();
+        if (traceId == null) {
+            traceId = TraceIdGenerator.newTraceId();
+        }
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        String method = request.getMethod();
+        String url = String.valueOf(request.getRequestURL());
+        Long userId = request.getAttribute("userId") instanceof Long id ? id : null;
 
         try {
-            Map<String, Object> requestMap = buildLogInfo(request, getRequestBody(pjp), traceId);
-            log.info("[ADMIN_API_요청][{}] {}", traceId, serializeLogData(requestMap));
+            publish(AdminLogEvent.Phase.REQUEST, traceId, method, url, userId,
+                    metadata.getRequestBody(pjp.getArgs()), metadata);
 
             Object result = pjp.proceed();
 
-            Map<String, Object> responseMap = buildLogInfo(request, result, traceId);
-            log.info("[ADMIN_API_응답][{}] {}", traceId, serializeLogData(responseMap));
+            publish(AdminLogEvent.Phase.RESPONSE, traceId, method, url, userId, result, metadata);
 
             return result;
         } catch (Exception e) {
-            log.error("[ADMIN_API_AOP_오류][{}] URL: {}, Error: {}",
-                    traceId, request.getRequestURL(), e.getMessage());
+            adminLogPipeline.publish(new AdminLogEvent(AdminLogEvent.Phase.ERROR, traceId, LocalDateTime.now(),
+                    method, url, userId, null, e.getMessage()));
             throw e;
         }
     }
 
-    private Map<String, Object> buildLogInfo(HttpServletRequest request, Object body, String traceId) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("timestamp", LocalDateTime.now());
-        map.put("traceId", traceId);
-        map.put("method", request.getMethod());
-        map.put("URL", String.valueOf(request.getRequestURL()));
-        map.put("userId", request.getAttribute("userId"));
-        map.put("requestBody", body);
-
-        return map;
-    }
-
-    private Object getRequestBody(ProceedingJoinPoint joinPoint) {
-
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-            if (parameter.isAnnotationPresent(RequestBody.class)) {
-                return args[i];
-            }
-        }
-
-        return null;
-    }
-
-    private String serializeLogData(Map<String, Object> logData) {
-        try {
-            return objectMapper.writeValueAsString(logData);
-        } catch (JsonProcessingException e) {
-            log.error("[ADMIN_API_AOP_오류]: JSON 직렬화 중 오류가 발생했습니다.", e);
-            return "JSON 직렬화 중 오류가 발생했습니다.";
-        }
+    // 본문 객체는 이후 요청 처리 중에 바뀔 수 있으므로 참조를 넘기지 않고 이 자리에서 직렬화한 결과만 담음
+    private void publish(AdminLogEvent.Phase phase, String traceId, String method, String url, Long userId,
+                         Object body, AdminLogMetadata metadata) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        AdminLogBodySerializer.Result capturedBody =
+                adminLogPipeline.captureBody(phase, method, url, userId, body, metadata);
+        adminLogPipeline.publish(new AdminLogEvent(phase, traceId, timestamp,
+                method, url, userId, capturedBody, null));
     }
 }
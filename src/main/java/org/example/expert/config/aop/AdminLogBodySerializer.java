@@ -0,0 +1,131 @@
+package org.example.expert.config.aop;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 요청/응답 본문을 최대 바이트 수까지만 JSON으로 직렬화합니다.
+ * 한도에 닿으면 출력 스트림이 예외를 던져 직렬화를 바로 멈추므로, 큰 본문도 한도 + 생성기 버퍼 이상은 메모리에 올리지 않습니다.
+ * 제외 필드는 토큰 단계에서 걸러 객체 트리를 따로 만들지 않습니다.
+ */
+class AdminLogBodySerializer {
+
+    static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private final ObjectMapper objectMapper;
+
+    AdminLogBodySerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    Result serialize(Object body, AdminLogMetadata metadata) throws IOException {
+        if (body == null) {
+            return null;
+        }
+        BoundedOutputStream out = new BoundedOutputStream(metadata.getMaxBodyBytes());
+        try (JsonGenerator generator = createGenerator(out, metadata.getRedactedFields())) {
+            objectMapper.writeValue(generator, body);
+        } catch (IOException e) {
+            // 한도 초과로 멈춘 경우만 잘린 결과로 돌려주고, 나머지 직렬화 오류는 호출한 쪽에서 처리
+            if (!out.limitReached) {
+                throw e;
+            }
+        }
+        if (!out.limitReached) {
+            return new Result(new String(out.buffer, 0, out.size, StandardCharsets.UTF_8), false);
+        }
+        int length = out.size;
+        // UTF-8 멀티바이트 문자 중간에서 자르지 않도록 연속 바이트(10xxxxxx)를 건너뜀
+        while (length > 0 && (out.buffer[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return new Result(new String(out.buffer, 0, length, StandardCharsets.UTF_8) + TRUNCATED_SUFFIX, true);
+    }
+
+    private JsonGenerator createGenerator(OutputStream out, Set<String> redactedFields) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        if (redactedFields.isEmpty()) {
+            return generator;
+        }
+        return new FilteringGeneratorDelegate(generator, new RedactingFilter(redactedFields),
+                TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+    }
+
+    @Getter
+    static class Result {
+
+        private final String json;
+        // true면 json은 잘린 문자열이라 JSON으로 파싱할 수 없음
+        private final boolean truncated;
+
+        Result(String json, boolean truncated) {
+            this.json = json;
+            this.truncated = truncated;
+        }
+    }
+
+    private static class RedactingFilter extends TokenFilter {
+
+        private final Set<String> redactedFields;
+
+        private RedactingFilter(Set<String> redactedFields) {
+            this.redactedFields = redactedFields;
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            // INCLUDE_ALL을 돌려주면 하위 객체는 검사하지 않으므로 자기 자신을 돌려줘 중첩 필드도 거름
+            return redactedFields.contains(name) ? null : this;
+        }
+    }
+
+    private static class BoundedOutputStream extends OutputStream {
+
+        private final int limit;
+        private byte[] buffer;
+        private int size;
+        private boolean limitReached;
+
+        private BoundedOutputStream(int limit) {
+            this.limit = limit;
+            this.buffer = new byte[Math.min(limit + 1, 256)];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (limitReached) {
+                throw new IOException("본문 기록 한도 초과");
+            }
+            // 잘린 위치의 문자 경계를 판단하려고 한도보다 1바이트 더 보관
+            int accepted = Math.min(length, limit + 1 - size);
+            ensureCapacity(size + accepted);
+            System.arraycopy(bytes, offset, buffer, size, accepted);
+            size += accepted;
+            if (size > limit) {
+                size = limit;
+                limitReached = true;
+                throw new IOException("본문 기록 한도 초과");
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(limit + 1, Math.max(capacity, buffer.length * 2)));
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.config.aop;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 관리자 API 호출 시점에 캡처한 로그 항목. 소비 스레드로 넘어가므로 불변 값만 담습니다.
+ * 본문은 요청 스레드에서 한도까지만 직렬화한 결과를 담고, 요청 DTO나 응답 객체의 참조는 보관하지 않습니다.
+ */
+@Getter
+public class AdminLogEvent {
+
+    public enum Phase {
+        REQUEST, RESPONSE, ERROR
+    }
+
+    private final Phase phase;
+    private final String traceId;
+    private final LocalDateTime timestamp;
+    private final String method;
+    private final String url;
+    private final Long userId;
+    private final AdminLogBodySerializer.Result body;
+    private final String errorMessage;
+
+    AdminLogEvent(Phase phase, String traceId, LocalDateTime timestamp, String method, String url,
+                         Long userId, AdminLogBodySerializer.Result body, String errorMessage) {
+        this.phase = phase;
+        this.traceId = traceId;
+        this.timestamp = timestamp;
+        this.method = method;
+        this.url = url;
+        this.userId = userId;
+        this.body = body;
+        this.errorMessage = errorMessage;
+    }
+}
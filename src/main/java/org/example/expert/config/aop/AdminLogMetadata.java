@@ -0,0 +1,49 @@
+package org.example.expert.config.aop;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Set;
+import lombok.Getter;
+import org.example.expert.domain.common.annotation.AdminLog;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * {@link AdminLog}가 붙은 핸들러 메서드 하나에 대해 미리 계산해 둔 로깅 정보.
+ */
+@Getter
+public class AdminLogMetadata {
+
+    public static final AdminLogMetadata DEFAULT = new AdminLogMetadata(-1, Set.of(), 4096);
+
+    // @RequestBody 파라미터 위치. 없으면 -1
+    private final int bodyParameterIndex;
+    private final Set<String> redactedFields;
+    private final int maxBodyBytes;
+
+    public AdminLogMetadata(int bodyParameterIndex, Set<String> redactedFields, int maxBodyBytes) {
+        this.bodyParameterIndex = bodyParameterIndex;
+        this.redactedFields = redactedFields;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public static AdminLogMetadata of(Method method) {
+        AdminLog adminLog = AnnotatedElementUtils.findMergedAnnotation(method, AdminLog.class);
+        if (adminLog == null) {
+            return DEFAULT;
+        }
+        int bodyParameterIndex = -1;
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(RequestBody.class)) {
+                bodyParameterIndex = i;
+                break;
+            }
+        }
+        return new AdminLogMetadata(bodyParameterIndex, Set.of(adminLog.redact()), adminLog.maxBodyBytes());
+    }
+
+    public Object getRequestBody(Object[] args) {
+        return bodyParameterIndex < 0 ? null : args[bodyParameterIndex];
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.config.aop;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.annotation.AdminLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link AdminLog} 핸들러의 메타데이터를 시작 시점에 한 번 계산해 둡니다.
+ * 요청마다 리플렉션으로 파라미터 어노테이션을 훑지 않고 Map 조회 한 번으로 끝내기 위함입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminLogMetadataRegistry implements SmartInitializingSingleton {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final Map<Method, AdminLogMetadata> metadata = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        handlerMappings.orderedStream().forEach(handlerMapping -> {
+            for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+                if (handlerMethod.hasMethodAnnotation(AdminLog.class)) {
+                    metadata.computeIfAbsent(handlerMethod.getMethod(), AdminLogMetadata::of);
+                }
+            }
+        });
+        log.info("[ADMIN_LOG] 관리자 API 로깅 대상 {}개 등록", metadata.size());
+    }
+
+    /**
+     * 시작 시점에 등록되지 않은 메서드(핸들러 매핑 밖에서 호출된 경우 등)는 처음 호출될 때 계산합니다.
+     */
+    public AdminLogMetadata get(Method method) {
+        AdminLogMetadata cached = metadata.get(method);
+        return cached != null ? cached : metadata.computeIfAbsent(method, AdminLogMetadata::of);
+    }
+}
@@ -0,0 +1,242 @@
+package org.example.expert.config.aop;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.jfr.AdminLogSerializationEvent;
+import org.example.expert.domain.audit.store.AuditLogStore;
+import org.example.expert.domain.common.metrics.BucketHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 API 로그를 링 버퍼에 넣고 별도 스레드에서 직렬화해 기록합니다.
+ * 요청 스레드는 {@link #captureBody}로 본문을 한도까지만 직렬화해 이벤트에 담고, 로그 항목 조립과 출력, 저장은 소비 스레드가 합니다.
+ * 버퍼가 가득 차면 정책에 따라 버리고 건수만 세거나(DROP), 자리가 날 때까지 요청 스레드를 기다리게(BLOCK) 합니다.
+ * 감사 로그 저장소가 켜져 있으면 같은 스레드에서 저장소에도 기록하므로 저장소 쓰기는 항상 단일 스레드입니다.
+ */
+@Slf4j
+@Component
+public class AdminLogPipeline {
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final ObjectMapper objectMapper;
+    private final AdminLogBodySerializer bodySerializer;
+    private final AuditLogStore auditLogStore;
+    private final AdminLogRingBuffer buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final long idleParkNanos;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final BucketHistogram occupancyHistogram = new BucketHistogram();
+    private volatile int occupancyHighWater;
+
+    private volatile boolean running;
+    private Thread consumerThread;
+
+    public AdminLogPipeline(
+            ObjectMapper objectMapper,
+            AuditLogStore auditLogStore,
+            @Value("${app.admin-log.buffer-size:8192}") int bufferSize,
+            @Value("${app.admin-log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${app.admin-log.idle-wait:10ms}") Duration idleWait
+    ) {
+        this.objectMapper = objectMapper;
+        this.bodySerializer = new AdminLogBodySerializer(objectMapper);
+        this.auditLogStore = auditLogStore;
+        this.buffer = new AdminLogRingBuffer(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.idleParkNanos = idleWait.toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumerThread = new Thread(this::runConsumer, "admin-log-writer");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 이미 버퍼에 들어간 로그는 모두 기록한 뒤 종료
+        running = false;
+        LockSupport.unpark(consumerThread);
+        consumerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * @return 버퍼에 넣었으면 true, DROP 정책으로 버렸으면 false
+     */
+    public boolean publish(AdminLogEvent event) {
+        if (buffer.offer(event)) {
+            published.incrementAndGet();
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            blocked.incrementAndGet();
+            // 소비 스레드가 멈춘 뒤에는 기다려도 자리가 나지 않으므로 버림
+            while (running) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(event)) {
+                    published.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getOccupancy() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    private void runConsumer() {
+        long lastReportNanos = System.nanoTime();
+        while (running || buffer.size() > 0) {
+            int occupancy = buffer.size();
+            if (occupancy > 0) {
+                occupancyHistogram.record(occupancy);
+                if (occupancy > occupancyHighWater) {
+                    occupancyHighWater = occupancy;
+                }
+            }
+
+            AdminLogEvent event;
+            int drained = 0;
+            while ((event = buffer.poll()) != null) {
+                write(event);
+                drained++;
+            }
+            if (auditLogStore.isEnabled()) {
+                auditLogStore.flush();
+            }
+            if (drained == 0 && running) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+
+            if (System.nanoTime() - lastReportNanos >= REPORT_INTERVAL_NANOS) {
+                report();
+                lastReportNanos = System.nanoTime();
+            }
+        }
+        report();
+    }
+
+    private void write(AdminLogEvent event) {
+        try {
+            AdminLogBodySerializer.Result body = event.getBody();
+            switch (event.getPhase()) {
+                case REQUEST -> log.info("[ADMIN_API_요청][{}] {}", event.getTraceId(), serialize(event, body));
+                case RESPONSE -> log.info("[ADMIN_API_응답][{}] {}", event.getTraceId(), serialize(event, body));
+                case ERROR -> log.error("[ADMIN_API_AOP_오류][{}] URL: {}, Error: {}",
+                        event.getTraceId(), event.getUrl(), event.getErrorMessage());
+            }
+            if (auditLogStore.isEnabled()) {
+                store(event, body);
+            }
+        } catch (RuntimeException e) {
+            // 소비 스레드가 죽으면 이후 로그가 모두 쌓이기만 하므로 한 건의 실패로 끝냄
+            log.error("[ADMIN_API_AOP_오류][{}] 로그 기록 중 오류가 발생했습니다.", event.getTraceId(), e);
+        }
+    }
+
+    private void store(AdminLogEvent event, AdminLogBodySerializer.Result body) {
+        String text = event.getPhase() == AdminLogEvent.Phase.ERROR
+                ? event.getErrorMessage()
+                : body == null ? null : body.getJson();
+        auditLogStore.append(event.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                event.getTraceId(), event.getUserId(), event.getPhase().name(), event.getMethod(), event.getUrl(), text);
+    }
+
+    /**
+     * 요청 스레드에서 호출합니다. 직렬화 비용은 본문 한도로 묶이고, 소비 스레드에는 불변 문자열만 넘어갑니다.
+     *
+     * @return 본문이 없거나 직렬화에 실패하면 null
+     */
+    AdminLogBodySerializer.Result captureBody(AdminLogEvent.Phase phase, String method, String url, Long userId,
+                                              Object body, AdminLogMetadata metadata) {
+        AdminLogSerializationEvent jfrEvent = new AdminLogSerializationEvent();
+        jfrEvent.begin();
+        AdminLogBodySerializer.Result result = null;
+        try {
+            result = bodySerializer.serialize(body, metadata);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            // 로그 본문 때문에 관리자 API 요청이 실패하지 않도록 본문 없이 기록
+            log.error("[ADMIN_API_AOP_오류]: JSON 직렬화 중 오류가 발생했습니다.", e);
+            return null;
+        } finally {
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.setPhase(phase.name());
+                jfrEvent.setRoute(method + " " + url);
+                jfrEvent.setUserId(userId == null ? 0L : userId);
+                // @DataAmount는 바이트 단위이므로 문자 수가 아닌 UTF-8 바이트 수를 기록
+                jfrEvent.setBodySize(result == null ? 0 : result.getJson().getBytes(StandardCharsets.UTF_8).length);
+                jfrEvent.setTruncated(result != null && result.isTruncated());
+                jfrEvent.commit();
+            }
+        }
+    }
+
+    private String serialize(AdminLogEvent event, AdminLogBodySerializer.Result body) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("timestamp", event.getTimestamp());
+        map.put("traceId", event.getTraceId());
+        map.put("method", event.getMethod());
+        map.put("URL", event.getUrl());
+        map.put("userId", event.getUserId());
+        // 이미 직렬화한 본문은 다시 직렬화하지 않고 그대로 끼워 넣고, 잘린 본문은 JSON이 아니므로 문자열로 기록
+        map.put("requestBody", body == null ? null : body.isTruncated() ? body.getJson() : new RawValue(body.getJson()));
+        try {
+            return objectMapper.writeValueAsString(map);
+        } catch (JsonProcessingException e) {
+            log.error("[ADMIN_API_AOP_오류]: JSON 직렬화 중 오류가 발생했습니다.", e);
+            return "JSON 직렬화 중 오류가 발생했습니다.";
+        }
+    }
+
+    private void report() {
+        BucketHistogram.Snapshot occupancy = occupancyHistogram.snapshotAndReset();
+        long droppedCount = dropped.get();
+        if (occupancy.getCount() == 0 && droppedCount == 0) {
+            return;
+        }
+        log.info("[ADMIN_LOG_PIPELINE] 발행: {}, 유실: {}, 대기 발생: {}, 버퍼 점유 p50={} p99={} 최대={} / {}",
+                published.get(), droppedCount, blocked.get(),
+                occupancy.getP50(), occupancy.getP99(), occupancyHighWater, buffer.capacity());
+    }
+}
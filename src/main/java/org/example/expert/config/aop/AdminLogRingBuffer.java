@@ -0,0 +1,78 @@
+package org.example.expert.config.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 요청 스레드가 넣고 한 소비 스레드가 꺼내는 고정 크기 링 버퍼.
+ * 슬롯마다 순번을 두어 생산자끼리는 CAS 한 번으로 자리를 잡고, 잠금 없이 동작합니다.
+ */
+class AdminLogRingBuffer {
+
+    private final AdminLogEvent[] slots;
+    // 슬롯 i의 순번이 pos면 pos 위치에 쓸 수 있고, pos + 1이면 pos 위치를 읽을 수 있음
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AdminLogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AdminLogEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 가득 차 있으면 기다리지 않고 false를 반환합니다.
+     */
+    boolean offer(AdminLogEvent event) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots[index] = event;
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 소비 스레드 하나에서만 호출해야 합니다.
+     */
+    AdminLogEvent poll() {
+        long pos = head;
+        int index = (int) pos & mask;
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        AdminLogEvent event = slots[index];
+        slots[index] = null;
+        sequences.set(index, pos + slots.length);
+        head = pos + 1;
+        return event;
+    }
+
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, slots.length));
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
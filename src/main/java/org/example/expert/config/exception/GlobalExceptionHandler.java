@@ -2,11 +2,14 @@ package org.example.expert.config.exception;
 
 import java.util.HashMap;
 import java.util.Map;
+import org.example.expert.config.trace.TraceContext;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -25,6 +28,18 @@ public class GlobalExceptionHandler {
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictException(ConflictException ex) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        return getErrorResponse(status, "다른 요청에 의해 이미 변경된 데이터입니다. 다시 시도해주세요.");
+    }
+
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
@@ -36,6 +51,8 @@ public class GlobalExceptionHandler {
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
+        // 서버 로그와 맞춰 볼 수 있도록 trace id를 함께 내려줌. TraceIdFilter를 거치지 않은 요청이면 null
+        errorResponse.put(TraceContext.TRACE_ID_KEY, TraceContext.currentTraceId());
 
         return new ResponseEntity<>(errorResponse, status);
     }
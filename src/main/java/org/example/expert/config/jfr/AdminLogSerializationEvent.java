@@ -0,0 +1,33 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("org.example.expert.AdminLogSerialization")
+@Label("Admin Log Serialization")
+@Category({"Expert", "Admin Log"})
+@Description("관리자 API 로그 본문 직렬화. 관리자 로그 파이프라인의 소비 스레드에서 발생")
+@Setter
+public class AdminLogSerializationEvent extends Event {
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Route")
+    private String route;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Body Size")
+    @DataAmount
+    private int bodySize;
+
+    @Label("Truncated")
+    private boolean truncated;
+}
@@ -0,0 +1,25 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("org.example.expert.JwtVerification")
+@Label("JWT Verification")
+@Category({"Expert", "Auth"})
+@Description("JwtFilter의 토큰 검증. 결과가 정해질 때까지의 시간")
+@Setter
+public class JwtVerificationEvent extends Event {
+
+    @Label("Route")
+    private String route;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Result")
+    private String result;
+}
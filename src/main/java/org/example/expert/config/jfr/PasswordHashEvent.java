@@ -0,0 +1,22 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("org.example.expert.PasswordHash")
+@Label("Password Hash")
+@Category({"Expert", "Auth"})
+@Description("PasswordEncoder의 BCrypt 해싱(encode)과 검증(matches)")
+@Setter
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Matched")
+    private boolean matched;
+}
@@ -0,0 +1,32 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("org.example.expert.RepositoryCall")
+@Label("Repository Call")
+@Category({"Expert", "Persistence"})
+@Description("Spring Data 리포지토리 메서드 호출. 반환한 엔티티 수를 함께 남기며, 엔티티가 아닌 반환값은 -1. "
+        + "요청 밖(백그라운드 작업 등)의 호출은 경로와 사용자가 비어 있음")
+@Setter
+public class RepositoryCallEvent extends Event {
+
+    @Label("Route")
+    private String route;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Repository")
+    private String repository;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Row Count")
+    private int rowCount;
+}
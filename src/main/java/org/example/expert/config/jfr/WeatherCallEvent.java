@@ -0,0 +1,19 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("org.example.expert.WeatherCall")
+@Label("Weather API Call")
+@Category({"Expert", "External"})
+@Description("WeatherClient의 날씨 API 호출")
+@Setter
+public class WeatherCallEvent extends Event {
+
+    @Label("Outcome")
+    private String outcome;
+}
@@ -0,0 +1,30 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 메트릭 기본 설정. HTTP 요청, Hikari 풀, Hibernate 세션 통계는 Spring Boot 자동 설정이 등록하고,
+ * 여기서는 자동 설정에 없는 Hibernate 쿼리별 실행 시간을 추가합니다.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    // 쿼리 문자열이 태그가 되므로 JPQL 종류 수만큼 시계열이 생김. 이 앱은 모든 쿼리가 고정 문자열이라 개수가 제한됨
+    @Bean
+    public MeterBinder hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            if (sessionFactory.getStatistics().isStatisticsEnabled()) {
+                new HibernateQueryMetrics(sessionFactory, "entityManagerFactory", List.of()).bindTo(registry);
+            }
+        };
+    }
+}
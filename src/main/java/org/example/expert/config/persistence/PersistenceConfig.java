@@ -1,9 +1,69 @@
 package org.example.expert.config.persistence;
 
+import java.net.URI;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.example.expert.config.persistence.querycount.QueryCountInspector;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.util.ObjectUtils;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    public static final String USER_CACHE_REGION = "user";
+    public static final String TODO_CACHE_REGION = "todo";
+
+    private static final String EHCACHE_PROVIDER = "org.ehcache.jsr107.EhcacheCachingProvider";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${app.jpa.cache.max-entries:10000}") long maxEntries,
+            @Value("${app.jpa.cache.time-to-live:10m}") Duration timeToLive
+    ) {
+        CacheConfiguration<Object, Object> regionConfiguration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive))
+                .build();
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(USER_CACHE_REGION, regionConfiguration)
+                .withCache(TODO_CACHE_REGION, regionConfiguration)
+                .build();
+
+        // 같은 JVM의 다른 컨텍스트와 CacheManager를 공유하지 않도록 인스턴스마다 고유한 URI 사용
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EHCACHE_PROVIDER);
+        URI uri = URI.create("urn:expert:second-level-cache:" + ObjectUtils.getIdentityHexString(configuration));
+        return provider.getCacheManager(uri, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager secondLevelCacheManager,
+            @Value("${app.jpa.statistics-enabled:false}") boolean statisticsEnabled
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            // 영역(region)별 hit/miss/put 통계와 요청당 SQL 수를 확인할 때 켭니다.
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+            // HTTP 요청마다 실행된 SQL 수를 셈. 요청 밖에서는 아무 일도 하지 않음
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, QueryCountInspector.INSTANCE);
+        };
+    }
 }
@@ -0,0 +1,29 @@
+package org.example.expert.config.persistence.querycount;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.annotation.QueryBudget;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 핸들러 메서드의 {@link QueryBudget}을 현재 요청의 {@link QueryCounter}에 등록합니다.
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (queryBudget != null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+            counter.setBudget(route, queryBudget.value());
+        }
+        return true;
+    }
+}
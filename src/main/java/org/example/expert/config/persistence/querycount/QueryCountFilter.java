@@ -0,0 +1,66 @@
+package org.example.expert.config.persistence.querycount;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.web.BeforeCommitResponseWrapper;
+
+/**
+ * 요청마다 SQL 문 수를 세고, 끝난 뒤 예산 초과와 N+1 의심 쿼리를 로그로 남깁니다.
+ * 헤더를 켜면 응답 본문을 쓰기 직전의 쿼리 수를 {@code X-Query-Count}로 내려줍니다. 본문을 쓰기 시작한 뒤에는 헤더를 붙일 수 없으므로
+ * 직렬화 중 지연 로딩으로 실행된 쿼리는 헤더에는 빠지고 로그에만 포함됩니다.
+ */
+@Slf4j
+public class QueryCountFilter implements Filter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final boolean headerEnabled;
+    private final boolean failOnBudgetExceeded;
+    private final int nPlusOneThreshold;
+
+    public QueryCountFilter(boolean headerEnabled, boolean failOnBudgetExceeded, int nPlusOneThreshold) {
+        this.headerEnabled = headerEnabled;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        QueryCounter counter = QueryCounter.start(failOnBudgetExceeded);
+        try {
+            if (headerEnabled) {
+                HttpServletResponse httpResponse = (HttpServletResponse) response;
+                BeforeCommitResponseWrapper wrapper = new BeforeCommitResponseWrapper(httpResponse,
+                        () -> httpResponse.setHeader(QUERY_COUNT_HEADER, Integer.toString(counter.getTotal())));
+                chain.doFilter(request, wrapper);
+                wrapper.beforeCommit();
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            QueryCounter.end();
+            report(httpRequest, counter);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter counter) {
+        if (counter.isOverBudget()) {
+            log.warn("[QUERY_BUDGET] 쿼리 수 제한 초과: {} {} (route={}) - {}회 / 제한 {}회",
+                    request.getMethod(), request.getRequestURI(), counter.getRoute(),
+                    counter.getTotal(), counter.getBudget());
+        }
+        Map<String, Integer> repeated = counter.findRepeated(nPlusOneThreshold);
+        repeated.forEach((sql, count) -> log.warn("[QUERY_BUDGET] N+1 의심: {} {} - 같은 쿼리 {}회 반복: {}",
+                request.getMethod(), request.getRequestURI(), count, sql));
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.config.persistence.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL을 준비할 때마다 호출되어 현재 요청의 {@link QueryCounter}에 기록합니다. SQL은 바꾸지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    public static final QueryCountInspector INSTANCE = new QueryCountInspector();
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.record(sql);
+        }
+        return sql;
+    }
+}
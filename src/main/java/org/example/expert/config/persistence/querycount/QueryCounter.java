@@ -0,0 +1,86 @@
+package org.example.expert.config.persistence.querycount;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.example.expert.domain.common.exception.ServerException;
+
+/**
+ * 요청 하나에서 실행된 SQL 문을 셉니다. 요청 스레드의 ThreadLocal에 묶이며, 요청 밖(스케줄러, 백그라운드 작업)에서는 세지 않습니다.
+ * Hibernate가 넘기는 SQL은 파라미터가 ?로 바인딩된 형태이므로, 같은 문자열이 반복되면 파라미터만 다른 같은 쿼리(N+1 패턴)입니다.
+ */
+public class QueryCounter {
+
+    public static final int UNLIMITED = -1;
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final boolean failOnBudgetExceeded;
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private int total;
+    private int budget = UNLIMITED;
+    private String route;
+
+    private QueryCounter(boolean failOnBudgetExceeded) {
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    public static QueryCounter start(boolean failOnBudgetExceeded) {
+        QueryCounter counter = new QueryCounter(failOnBudgetExceeded);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * @return 현재 요청의 카운터. 요청 밖이면 null
+     */
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void setBudget(String route, int budget) {
+        this.route = route;
+        this.budget = budget;
+    }
+
+    void record(String sql) {
+        total++;
+        countsBySql.merge(sql, 1, Integer::sum);
+        if (failOnBudgetExceeded && isOverBudget()) {
+            // 이미 실행된 문은 되돌릴 수 없지만, 트랜잭션 안이라면 예외로 롤백되고 이후 쿼리는 실행되지 않음
+            throw new ServerException("요청당 쿼리 수 제한을 초과했습니다. route=" + route + ", budget=" + budget);
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public boolean isOverBudget() {
+        return budget != UNLIMITED && total > budget;
+    }
+
+    /**
+     * @return 같은 SQL이 threshold번 이상 반복된 것들 (SQL -> 횟수)
+     */
+    public Map<String, Integer> findRepeated(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        countsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.expert.config.persistence.replication;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ReplicaDataSourcePool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<DataSource> replicas;
+    private final AtomicBoolean[] healthy;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaDataSourcePool(List<DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicBoolean[replicas.size()];
+        for (int i = 0; i < healthy.length; i++) {
+            healthy[i] = new AtomicBoolean(true);
+        }
+    }
+
+    public int size() {
+        return replicas.size();
+    }
+
+    public DataSource get(int index) {
+        return replicas.get(index);
+    }
+
+    /**
+     * 정상 상태인 replica 중 하나를 라운드 로빈으로 고릅니다. 사용할 수 있는 replica가 없으면 -1을 반환합니다.
+     */
+    public int nextHealthyIndex() {
+        int size = replicas.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            int index = Math.floorMod(cursor.getAndIncrement(), size);
+            if (healthy[index].get()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean alive = isAlive(replicas.get(i));
+            boolean previous = healthy[i].getAndSet(alive);
+            if (previous != alive) {
+                log.warn("Replica 상태 변경: index={}, healthy={}", i, alive);
+            }
+        }
+    }
+
+    public void startHealthCheck(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private boolean isAlive(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
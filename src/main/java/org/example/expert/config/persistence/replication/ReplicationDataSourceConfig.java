@@ -0,0 +1,74 @@
+package org.example.expert.config.persistence.replication;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replication", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaDataSourcePool replicaDataSourcePool(ReplicationProperties replicationProperties,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicationProperties.Replica replica : replicationProperties.getReplicas()) {
+            replicas.add(createReplica(replica, "replica-" + replicas.size(), meterRegistry.getIfAvailable()));
+        }
+
+        ReplicaDataSourcePool pool = new ReplicaDataSourcePool(replicas);
+        pool.startHealthCheck(replicationProperties.getHealthCheckInterval());
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaDataSourcePool replicaDataSourcePool,
+                                 ReplicationProperties replicationProperties) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(replicationProperties.getReadYourWritesWindow());
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSourcePool, tracker));
+    }
+
+    // replica 풀은 빈이 아니라 자동 설정이 Hikari 메트릭을 붙이지 않으므로 풀이 시작되기 전에 직접 연결
+    private DataSource createReplica(ReplicationProperties.Replica replica, String poolName,
+                                     MeterRegistry meterRegistry) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword());
+        if (replica.getDriverClassName() != null) {
+            builder.driverClassName(replica.getDriverClassName());
+        }
+
+        HikariDataSource dataSource = builder.build();
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName(poolName);
+        if (meterRegistry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.config.persistence.replication;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replication")
+public class ReplicationProperties {
+
+    private boolean enabled;
+
+    // 본인이 쓰기를 한 직후 이 시간 동안은 읽기도 primary로 보냄
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -1,10 +1,18 @@
 package org.example.expert.config.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.persistence.querycount.QueryCountFilter;
+import org.example.expert.config.timing.ServerTimingFilter;
+import org.example.expert.config.trace.TraceIdFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 
 @Configuration
 @RequiredArgsConstructor
@@ -12,11 +20,54 @@ public class FilterConfig {
 
     private final JwtUtil jwtUtil;
     private final ObjectMapper objectMapper;
+    private final RoleVersionRegistry roleVersionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // 인증 실패 응답에도 trace id가 남도록 JwtFilter보다 먼저 실행
+    @Bean
+    public FilterRegistrationBean<TraceIdFilter> traceIdFilter() {
+        FilterRegistrationBean<TraceIdFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new TraceIdFilter());
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registrationBean;
+    }
+
+    // 인증 시간까지 total에 들어가도록 JwtFilter보다 먼저 실행. 지정하지 않으면 운영(prod) 프로필에서는 끔
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(Environment environment) {
+        boolean enabled = environment.getProperty("app.server-timing.enabled", Boolean.class,
+                !environment.acceptsProfiles(Profiles.of("prod")));
+        FilterRegistrationBean<ServerTimingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ServerTimingFilter());
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registrationBean.setEnabled(enabled);
+
+        return registrationBean;
+    }
+
+    // 쿼리 수 헤더는 운영(prod) 프로필에서는 내보내지 않음
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            Environment environment,
+            @Value("${app.query-budget.mode:LOG}") String mode,
+            @Value("${app.query-budget.n-plus-one-threshold:5}") int nPlusOneThreshold
+    ) {
+        boolean headerEnabled = !environment.acceptsProfiles(Profiles.of("prod"));
+        FilterRegistrationBean<QueryCountFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new QueryCountFilter(headerEnabled, "FAIL".equalsIgnoreCase(mode), nPlusOneThreshold));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return registrationBean;
+    }
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper, roleVersionRegistry, meterRegistry));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
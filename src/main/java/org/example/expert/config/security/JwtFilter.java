@@ -5,6 +5,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,19 +15,42 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.jfr.JwtVerificationEvent;
+import org.example.expert.config.timing.ServerTiming;
+import org.example.expert.config.trace.TraceContext;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    private static final String METRIC_NAME = "auth.jwt.requests";
+
+    // 인증 결과별 요청 수. 요청마다 레지스트리를 조회하지 않도록 카운터를 미리 만들어 둠
+    enum Result {
+        ACCEPTED, MISSING_TOKEN, INVALID_TOKEN, EXPIRED, ROLE_CHANGED, FORBIDDEN, ERROR
+    }
+
     private final JwtUtil jwtUtil;
     private final ObjectMapper objectMapper;
+    private final RoleVersionRegistry roleVersionRegistry;
+    private final Map<Result, Counter> counters = new EnumMap<>(Result.class);
+
+    public JwtFilter(JwtUtil jwtUtil, ObjectMapper objectMapper, RoleVersionRegistry roleVersionRegistry,
+                     MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.roleVersionRegistry = roleVersionRegistry;
+        for (Result result : Result.values()) {
+            counters.put(result, Counter.builder(METRIC_NAME)
+                    .tag("result", result.name())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -40,10 +65,15 @@ public class JwtFilter implements Filter {
             return;
         }
 
+        long startNanos = System.nanoTime();
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+
         String bearerJwt = httpRequest.getHeader("Authorization");
 
         if (bearerJwt == null) {
             log.warn("인증 헤더 누락: URI={}", url);
+            recordOutcome(Result.MISSING_TOKEN, startNanos, url, event);
             sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
             return;
         }
@@ -55,35 +85,64 @@ public class JwtFilter implements Filter {
             Claims claims = jwtUtil.extractClaims(jwt);
             if (claims == null) {
                 log.warn("Claims 추출 실패: URI={}", url);
+                recordOutcome(Result.INVALID_TOKEN, startNanos, url, event);
                 sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
                 return;
             }
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            long userId = Long.parseLong(claims.getSubject());
+            event.setUserId(userId);
+
+            // 역할이 바뀐 뒤에는 이전 역할이 담긴 토큰을 만료 전이라도 거부. 버전이 없는 토큰은 0으로 봄
+            Number roleVersion = claims.get(JwtUtil.ROLE_VERSION_CLAIM, Number.class);
+            if (!roleVersionRegistry.isCurrent(userId, roleVersion == null ? 0L : roleVersion.longValue())) {
+                log.info("역할 변경 전 발급된 토큰: userId={}, URI={}", userId, url);
+                recordOutcome(Result.ROLE_CHANGED, startNanos, url, event);
+                sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "권한이 변경되었습니다. 다시 로그인해주세요.");
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
+            httpRequest.setAttribute("userId", userId);
             httpRequest.setAttribute("email", claims.get("email"));
             httpRequest.setAttribute("userRole", claims.get("userRole"));
 
             if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
                 log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
+                recordOutcome(Result.FORBIDDEN, startNanos, url, event);
                 sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
                 return;
             }
 
+            recordOutcome(Result.ACCEPTED, startNanos, url, event);
             chain.doFilter(request, response);
         } catch (ExpiredJwtException e) {
             log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), url);
+            recordOutcome(Result.EXPIRED, startNanos, url, event);
             sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException e) {
             log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url, e);
+            recordOutcome(Result.INVALID_TOKEN, startNanos, url, event);
             sendErrorResponse(httpResponse, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
         } catch (Exception e) {
             log.error("예상치 못한 오류: URI={}", url, e);
+            recordOutcome(Result.ERROR, startNanos, url, event);
             sendErrorResponse(httpResponse, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
         }
     }
 
+    // 인증 결과가 정해진 시점까지를 auth 구간과 JFR 이벤트로 기록
+    private void recordOutcome(Result result, long startNanos, String url, JwtVerificationEvent event) {
+        ServerTiming.record(ServerTiming.Phase.AUTH, System.nanoTime() - startNanos);
+        counters.get(result).increment();
+        // 이벤트가 기록되지 않는 요청에는 필드를 채우지 않음
+        if (event.shouldCommit()) {
+            event.setRoute(url);
+            event.setResult(result.name());
+            event.commit();
+        }
+    }
+
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
         response.setStatus(status.value());
         response.setContentType("application/json;charset=UTF-8");
@@ -92,6 +151,7 @@ public class JwtFilter implements Filter {
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
+        errorResponse.put(TraceContext.TRACE_ID_KEY, TraceContext.currentTraceId());
 
         response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
     }
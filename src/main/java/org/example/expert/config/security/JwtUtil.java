@@ -19,6 +19,7 @@ import org.springframework.util.StringUtils;
 @Component
 public class JwtUtil {
 
+    public static final String ROLE_VERSION_CLAIM = "roleVersion";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
@@ -32,7 +33,7 @@ public class JwtUtil {
         key = Keys.hmacShaKeyFor(bytes);
     }
 
-    public String createToken(Long userId, String email, UserRole userRole) {
+    public String createToken(Long userId, String email, UserRole userRole, long roleVersion) {
         Date date = new Date();
 
         return BEARER_PREFIX +
@@ -40,6 +41,7 @@ public class JwtUtil {
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
+                        .claim(ROLE_VERSION_CLAIM, roleVersion)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
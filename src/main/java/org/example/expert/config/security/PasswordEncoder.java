@@ -1,17 +1,33 @@
 package org.example.expert.config.security;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.config.jfr.PasswordHashEvent;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PasswordEncoder {
 
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        commit(event, "encode", true);
+        return encoded;
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        commit(event, "matches", result.verified);
         return result.verified;
     }
+
+    private static void commit(PasswordHashEvent event, String operation, boolean matched) {
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setMatched(matched);
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package org.example.expert.config.security;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.collection.LongLongHashMap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 현재 역할 버전을 메모리에 들고 있다가 토큰에 담긴 버전과 비교합니다.
+ * 역할이 한 번도 바뀌지 않은 사용자(버전 0)는 저장하지 않으며, 다른 인스턴스의 변경은 주기적인 증분 조회로 반영됩니다.
+ * 요청 처리 중에는 DB를 조회하지 않도록 전체 버전은 애플리케이션 시작 시 적재합니다.
+ */
+@Slf4j
+@Component
+public class RoleVersionRegistry implements SmartInitializingSingleton {
+
+    private static final String LOAD_ALL_SQL =
+            "select id, role_version, modified_at from users where role_version > 0";
+    private static final String LOAD_CHANGED_SQL =
+            "select id, role_version, modified_at from users where modified_at >= ? and role_version > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration overlap;
+
+    // 읽기는 잠금 없이 현재 스냅샷을 보고, 변경은 사본을 고친 뒤 교체
+    private volatile LongLongHashMap versions;
+    private LocalDateTime watermark;
+    // 첫 적재 전에 이 인스턴스에서 바뀐 역할. 적재할 때 합쳐짐
+    private final Map<Long, Long> pending = new HashMap<>();
+
+    public RoleVersionRegistry(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.security.role-version.overlap:1m}") Duration overlap
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.overlap = overlap;
+    }
+
+    /**
+     * 모든 싱글톤이 만들어진 뒤, 웹 서버가 요청을 받기 전에 전체 버전을 적재합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    public boolean isCurrent(long userId, long tokenRoleVersion) {
+        LongLongHashMap snapshot = versions;
+        if (snapshot == null) {
+            return tokenRoleVersion >= pendingVersion(userId);
+        }
+        return tokenRoleVersion >= snapshot.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 이 인스턴스에서 바꾼 역할은 다음 주기를 기다리지 않고 커밋 직후 반영합니다.
+     */
+    public void update(long userId, long roleVersion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, roleVersion);
+                }
+            });
+        } else {
+            apply(userId, roleVersion);
+        }
+    }
+
+    /**
+     * 마지막으로 본 수정 시각 이후에 바뀐 행만 읽습니다. 커밋 지연과 인스턴스 간 시계 차이로 놓치는 행이 없도록
+     * overlap만큼 겹쳐서 다시 읽고, 버전은 증가만 하므로 같은 행을 여러 번 반영해도 결과는 같습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.security.role-version.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LongLongHashMap next = versions == null ? new LongLongHashMap() : versions.copy();
+        LocalDateTime[] latest = {watermark};
+        int[] changed = {0};
+
+        Object[] args = watermark == null ? new Object[0] : new Object[]{Timestamp.valueOf(watermark.minus(overlap))};
+        jdbcTemplate.query(watermark == null ? LOAD_ALL_SQL : LOAD_CHANGED_SQL, rs -> {
+            long userId = rs.getLong(1);
+            long roleVersion = rs.getLong(2);
+            if (roleVersion > next.getOrDefault(userId, 0L)) {
+                next.put(userId, roleVersion);
+                changed[0]++;
+            }
+            Timestamp modifiedAt = rs.getTimestamp(3);
+            if (modifiedAt != null && (latest[0] == null || modifiedAt.toLocalDateTime().isAfter(latest[0]))) {
+                latest[0] = modifiedAt.toLocalDateTime();
+            }
+        }, args);
+
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            if (entry.getValue() > next.getOrDefault(entry.getKey(), 0L)) {
+                next.put(entry.getKey(), entry.getValue());
+                changed[0]++;
+            }
+        }
+        pending.clear();
+
+        // 아직 변경된 사용자가 없으면 이번 조회 시작 시각부터 다시 읽음
+        watermark = latest[0] == null ? startedAt : latest[0];
+        if (versions == null || changed[0] > 0) {
+            versions = next;
+        }
+        if (changed[0] > 0) {
+            log.info("역할 버전 갱신 - 변경 사용자 수: {}, 전체: {}", changed[0], next.size());
+        }
+    }
+
+    private synchronized void apply(long userId, long roleVersion) {
+        if (versions == null) {
+            pending.merge(userId, roleVersion, Math::max);
+            return;
+        }
+        if (roleVersion > versions.getOrDefault(userId, 0L)) {
+            LongLongHashMap next = versions.copy();
+            next.put(userId, roleVersion);
+            versions = next;
+        }
+    }
+
+    private synchronized long pendingVersion(long userId) {
+        return pending.getOrDefault(userId, 0L);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.config.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collection;
+import java.util.Optional;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.jfr.RepositoryCallEvent;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Spring Data 리포지토리 호출 시간을 현재 요청의 db 구간에 더하고, JFR이 켜져 있으면 호출마다 {@link RepositoryCallEvent}를 남깁니다.
+ * 리포지토리 밖에서 일어나는 지연 로딩과 트랜잭션 커밋 시간은 포함하지 않습니다.
+ */
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepositoryCall(ProceedingJoinPoint pjp) throws Throwable {
+        ServerTiming timing = ServerTiming.current();
+        boolean outermost = timing != null && timing.enterRepository();
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = pjp.proceed();
+            return result;
+        } finally {
+            if (outermost) {
+                timing.exitRepository(System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                commit(event, pjp, result);
+            }
+        }
+    }
+
+    private static void commit(RepositoryCallEvent event, ProceedingJoinPoint pjp, Object result) {
+        MethodSignature signature = (MethodSignature) pjp.getSignature();
+        // 상속받은 findById 등은 선언 타입이 CrudRepository이므로 프록시가 구현한 리포지토리 인터페이스 이름을 씀
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(pjp.getThis());
+        event.setRepository(interfaces.length > 0 ? interfaces[0].getSimpleName()
+                : signature.getDeclaringType().getSimpleName());
+        event.setMethod(signature.getName());
+        event.setRowCount(rowCount(result, signature.getReturnType()));
+        // JwtFilter와 같은 기준으로 경로와 사용자를 남겨 요청별로 묶어 볼 수 있게 함
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            event.setRoute(request.getRequestURI());
+            if (request.getAttribute("userId") instanceof Long userId) {
+                event.setUserId(userId);
+            }
+        }
+        event.commit();
+    }
+
+    private static int rowCount(Object result, Class<?> returnType) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (returnType == void.class || returnType.isPrimitive() || result instanceof Number
+                || result instanceof Boolean) {
+            return -1;
+        }
+        return result == null ? 0 : 1;
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.config.timing;
+
+/**
+ * 요청 하나의 구간별 소요 시간을 모아 {@code Server-Timing} 헤더 값으로 만듭니다. 요청 스레드의 ThreadLocal에 묶이며, 요청 밖에서는 기록하지 않습니다.
+ * 구간은 고정된 enum이라 배열 인덱스로 누적하므로 요청마다 맵을 만들지 않습니다.
+ * 구간끼리는 겹칠 수 있습니다. app(핸들러)은 그 안에서 호출한 db, weather, read 시간을 포함합니다.
+ */
+public class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    public enum Phase {
+        AUTH("auth", "JWT verification"),
+        APP("app", "Handler"),
+        DB("db", "Repository"),
+        WEATHER("weather", "Weather API"),
+        READ("read", "Request body conversion");
+
+        private final String metricName;
+        // 헤더 값은 ASCII여야 하므로 설명은 영문으로 둠
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long handlerStartNanos;
+    private boolean handlerStarted;
+    private long readStartNanos;
+    private boolean inRepository;
+
+    private ServerTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public static ServerTiming start() {
+        ServerTiming timing = new ServerTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * @return 현재 요청의 타이머. 요청 밖이거나 헤더를 끈 환경이면 null
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청이 있으면 구간 시간을 더합니다. 요청 밖에서 호출해도 아무 일도 하지 않습니다.
+     */
+    public static void record(Phase phase, long elapsedNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, elapsedNanos);
+        }
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * 핸들러 시작 시각을 남깁니다. 오류 페이지 디스패치처럼 한 요청에서 여러 번 불려도 처음 시각만 씁니다.
+     */
+    void handlerStarted() {
+        if (!handlerStarted) {
+            handlerStarted = true;
+            handlerStartNanos = System.nanoTime();
+        }
+    }
+
+    void readStarted() {
+        readStartNanos = System.nanoTime();
+    }
+
+    void readFinished() {
+        add(Phase.READ, System.nanoTime() - readStartNanos);
+    }
+
+    /**
+     * @return 바깥쪽 리포지토리 호출이면 true. 리포지토리가 다른 리포지토리를 부르면 안쪽 호출은 따로 세지 않음
+     */
+    boolean enterRepository() {
+        if (inRepository) {
+            return false;
+        }
+        inRepository = true;
+        return true;
+    }
+
+    void exitRepository(long elapsedNanos) {
+        inRepository = false;
+        add(Phase.DB, elapsedNanos);
+    }
+
+    /**
+     * 지금까지의 구간 시간으로 헤더 값을 만듭니다. 핸들러 구간은 응답 본문을 쓰기 시작하는 이 시점에 닫습니다.
+     * 예: {@code auth;dur=0.4;desc="JWT verification", app;dur=12.3;desc="Handler", db;dur=8.1;desc="Repository x3", total;dur=13.0}
+     */
+    public String toHeaderValue() {
+        long now = System.nanoTime();
+        if (handlerStarted && counts[Phase.APP.ordinal()] == 0) {
+            add(Phase.APP, now - handlerStartNanos);
+        }
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.metricName).append(";dur=");
+            appendMillis(header, nanos[phase.ordinal()]);
+            header.append(";desc=\"").append(phase.description);
+            if (count > 1) {
+                header.append(" x").append(count);
+            }
+            header.append("\", ");
+        }
+        header.append("total;dur=");
+        appendMillis(header, now - startNanos);
+        return header.toString();
+    }
+
+    // 소수점 첫째 자리까지의 밀리초. String.format보다 가볍게 직접 씀
+    private static void appendMillis(StringBuilder header, long nanos) {
+        long tenths = Math.max(0, nanos) / 100_000;
+        header.append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
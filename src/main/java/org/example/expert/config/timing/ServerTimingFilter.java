@@ -0,0 +1,33 @@
+package org.example.expert.config.timing;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.example.expert.config.web.BeforeCommitResponseWrapper;
+
+/**
+ * 요청마다 {@link ServerTiming}을 열고, 응답 본문을 쓰기 직전에 {@code Server-Timing} 헤더를 붙입니다.
+ * 본문을 쓰기 시작한 뒤에는 헤더를 붙일 수 없으므로 응답 직렬화 시간은 헤더에 들어가지 않습니다.
+ * total은 이 필터에 들어온 뒤 본문을 쓰기 시작할 때까지입니다.
+ */
+public class ServerTimingFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        ServerTiming timing = ServerTiming.start();
+        try {
+            BeforeCommitResponseWrapper wrapper = new BeforeCommitResponseWrapper(httpResponse,
+                    () -> httpResponse.setHeader(ServerTiming.HEADER, timing.toHeaderValue()));
+            chain.doFilter(request, wrapper);
+            wrapper.beforeCommit();
+        } finally {
+            ServerTiming.end();
+        }
+    }
+}
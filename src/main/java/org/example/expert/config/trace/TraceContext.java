@@ -0,0 +1,47 @@
+package org.example.expert.config.trace;
+
+import java.util.Map;
+import org.slf4j.MDC;
+
+/**
+ * 요청 단위 trace id를 MDC로 보관합니다. 요청 스레드 밖에서 실행되는 작업은 {@link #wrap}으로 감싸야 같은 id가 로그에 남습니다.
+ */
+public final class TraceContext {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACE_ID_KEY = "traceId";
+    public static final String SPAN_ID_KEY = "spanId";
+
+    private TraceContext() {
+    }
+
+    /**
+     * @return 현재 스레드의 trace id. 요청 처리 중이 아니면 null
+     */
+    public static String currentTraceId() {
+        return MDC.get(TRACE_ID_KEY);
+    }
+
+    /**
+     * 제출 시점의 MDC를 실행 스레드에 옮기고, 끝나면 실행 스레드의 원래 MDC로 되돌립니다.
+     */
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        if (context == null || context.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(context);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
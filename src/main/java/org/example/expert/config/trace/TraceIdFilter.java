@@ -0,0 +1,81 @@
+package org.example.expert.config.trace;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.MDC;
+
+/**
+ * 모든 요청에 trace id를 붙여 MDC에 넣고 응답 헤더로 돌려줍니다.
+ * 요청에 유효한 {@code traceparent}(00-{trace-id}-{parent-id}-{flags})가 있으면 그 trace id를 이어 쓰고, 없으면 새로 만듭니다.
+ * 응답의 {@code traceparent}에는 이 서버에서 처리한 구간의 span id를 담습니다.
+ * 인증 실패도 추적할 수 있도록 {@code JwtFilter}보다 먼저 실행되어야 합니다.
+ */
+public class TraceIdFilter implements Filter {
+
+    private static final String VERSION = "00";
+    private static final String DEFAULT_FLAGS = "01";
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String traceparent = httpRequest.getHeader(TraceContext.TRACEPARENT_HEADER);
+        boolean valid = isValid(traceparent);
+        String traceId = valid ? traceparent.substring(3, 35) : TraceIdGenerator.newTraceId();
+        String flags = valid ? traceparent.substring(53, 55) : DEFAULT_FLAGS;
+        String spanId = TraceIdGenerator.newSpanId();
+
+        MDC.put(TraceContext.TRACE_ID_KEY, traceId);
+        MDC.put(TraceContext.SPAN_ID_KEY, spanId);
+        // 본문을 쓰기 시작하면 헤더를 바꿀 수 없으므로 처리 전에 설정
+        httpResponse.setHeader(TraceContext.TRACEPARENT_HEADER, VERSION + "-" + traceId + "-" + spanId + "-" + flags);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(TraceContext.TRACE_ID_KEY);
+            MDC.remove(TraceContext.SPAN_ID_KEY);
+        }
+    }
+
+    // 정규식 없이 길이와 문자만 확인. trace-id와 parent-id가 모두 0이면 규격상 무효
+    static boolean isValid(String traceparent) {
+        if (traceparent == null || traceparent.length() != TRACEPARENT_LENGTH
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return false;
+        }
+        if (!isLowerHex(traceparent, 0, 2) || traceparent.startsWith("ff")) {
+            return false;
+        }
+        return isLowerHex(traceparent, 3, 35) && !isZero(traceparent, 3, 35)
+                && isLowerHex(traceparent, 36, 52) && !isZero(traceparent, 36, 52)
+                && isLowerHex(traceparent, 53, 55);
+    }
+
+    private static boolean isLowerHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.config.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context 형식의 trace id(32자리 소문자 16진수)와 span id(16자리)를 만듭니다.
+ * 공유 SecureRandom을 쓰는 {@code UUID.randomUUID()}와 달리 스레드마다 독립된 난수원을 쓰므로 경합이 없습니다.
+ * 추적용 식별자일 뿐 보안 토큰으로 쓰면 안 됩니다.
+ */
+public final class TraceIdGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIdGenerator() {
+    }
+
+    public static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        // 모두 0인 값은 W3C 규격상 유효하지 않음
+        if (high == 0 && low == 0) {
+            low = 1;
+        }
+        char[] chars = new char[32];
+        writeHex(chars, 0, high);
+        writeHex(chars, 16, low);
+        return new String(chars);
+    }
+
+    public static String newSpanId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[16];
+        writeHex(chars, 0, value == 0 ? 1 : value);
+        return new String(chars);
+    }
+
+    private static void writeHex(char[] chars, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.config.trace;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스프링이 관리하는 태스크 실행기(applicationTaskExecutor 등)에 제출된 작업에 요청의 trace id를 이어 줍니다.
+ */
+@Component
+public class TraceTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TraceContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.config.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 응답이 확정되기 직전에 콜백을 한 번 실행합니다. 요청 처리 중 모은 값을 응답 헤더로 내려줄 때 씁니다.
+ * 본문 출력 스트림을 처음 꺼내거나 버퍼를 비우거나 오류/리다이렉트를 보내는 시점 중 가장 빠른 때 실행되고,
+ * 본문이 없는 응답은 필터 체인이 끝난 뒤 {@link #beforeCommit()}을 직접 호출해야 합니다.
+ */
+public class BeforeCommitResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Runnable callback;
+    private boolean done;
+
+    public BeforeCommitResponseWrapper(HttpServletResponse response, Runnable callback) {
+        super(response);
+        this.callback = callback;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        beforeCommit();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        beforeCommit();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        beforeCommit();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        beforeCommit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        beforeCommit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        beforeCommit();
+        super.sendRedirect(location);
+    }
+
+    public void beforeCommit() {
+        if (done) {
+            return;
+        }
+        done = true;
+        // 이미 확정된 응답에는 헤더를 붙여도 반영되지 않음
+        if (!isCommitted()) {
+            callback.run();
+        }
+    }
+}
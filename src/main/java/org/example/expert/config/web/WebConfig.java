@@ -1,6 +1,8 @@
 package org.example.expert.config.web;
 
 import java.util.List;
+import org.example.expert.config.persistence.querycount.QueryBudgetInterceptor;
+import org.example.expert.config.timing.ServerTimingInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -18,5 +20,7 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new AdminAuthorizationInterceptor())
                 .addPathPatterns("/admin/**");
+        registry.addInterceptor(new QueryBudgetInterceptor());
+        registry.addInterceptor(new ServerTimingInterceptor());
     }
 }
\ No newline at end of file
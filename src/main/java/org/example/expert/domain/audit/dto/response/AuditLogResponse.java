@@ -0,0 +1,27 @@
+package org.example.expert.domain.audit.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class AuditLogResponse {
+
+    private final LocalDateTime timestamp;
+    private final String traceId;
+    private final Long userId;
+    private final String phase;
+    private final String method;
+    private final String url;
+    private final String body;
+
+    public AuditLogResponse(LocalDateTime timestamp, String traceId, Long userId, String phase, String method,
+                            String url, String body) {
+        this.timestamp = timestamp;
+        this.traceId = traceId;
+        this.userId = userId;
+        this.phase = phase;
+        this.method = method;
+        this.url = url;
+        this.body = body;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.audit.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.store.AuditLogStore;
+import org.example.expert.domain.audit.store.AuditQuery;
+import org.example.expert.domain.audit.store.AuditRecord;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final long DEFAULT_RANGE_HOURS = 1;
+
+    private final AuditLogStore auditLogStore;
+
+    /**
+     * 기간을 지정하지 않으면 최근 1시간을 조회합니다. 결과는 오래된 순으로 최대 size건입니다.
+     */
+    public List<AuditLogResponse> searchAuditLogs(LocalDateTime from, LocalDateTime to, Long userId, String traceId,
+                                                  String url, int size) {
+        if (!auditLogStore.isEnabled()) {
+            throw new ServerException("감사 로그 저장소가 활성화되어 있지 않습니다.");
+        }
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = from == null ? end.minusHours(DEFAULT_RANGE_HOURS) : from;
+        if (!start.isBefore(end)) {
+            throw new InvalidRequestException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        AuditQuery query = new AuditQuery(toEpochMilli(start), toEpochMilli(end), userId,
+                emptyToNull(traceId), emptyToNull(url), pageSize);
+        return auditLogStore.search(query).stream()
+                .map(AuditLogService::toResponse)
+                .toList();
+    }
+
+    private static AuditLogResponse toResponse(AuditRecord record) {
+        return new AuditLogResponse(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getTimestamp()), ZoneId.systemDefault()),
+                record.getTraceId(),
+                record.getUserId(),
+                record.getPhase(),
+                record.getMethod(),
+                record.getUrl(),
+                record.getBody()
+        );
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.domain.audit.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 세그먼트에 어떤 사용자/traceId가 들어 있는지 빠르게 거르기 위한 블룸 필터.
+ * 없다고 하면 확실히 없고, 있다고 하면 실제로 읽어서 확인해야 합니다. 기록은 한 스레드에서만 합니다.
+ */
+class AuditBloomFilter {
+
+    private static final int HASH_COUNT = 3;
+
+    private final long[] words;
+    private final long bitMask;
+
+    AuditBloomFilter(int expectedEntries) {
+        // 항목당 8비트면 해시 3개 기준 오탐률이 약 3%
+        long bits = Long.highestOneBit(Math.max(64L, (long) expectedEntries * 8 - 1) << 1);
+        this.words = new long[(int) (bits >>> 6)];
+        this.bitMask = bits - 1;
+    }
+
+    private AuditBloomFilter(long[] words) {
+        this.words = words;
+        this.bitMask = ((long) words.length << 6) - 1;
+    }
+
+    void add(long key) {
+        long hash = mix(key);
+        long step = (hash >>> 32) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = (hash + i * step) & bitMask;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(long key) {
+        long hash = mix(key);
+        long step = (hash >>> 32) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = (hash + i * step) & bitMask;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int serializedSize() {
+        return Integer.BYTES + words.length * Long.BYTES;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(words.length);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+    }
+
+    static AuditBloomFilter readFrom(ByteBuffer buffer) {
+        long[] words = new long[buffer.getInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = buffer.getLong();
+        }
+        return new AuditBloomFilter(words);
+    }
+
+    static long hash(byte[] bytes) {
+        // FNV-1a 64비트
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.expert.domain.audit.store;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 관리자 감사 로그를 메모리 매핑된 세그먼트 파일에 append-only로 저장하고 검색합니다.
+ * {@link #append}는 관리자 로그 파이프라인의 소비 스레드 하나에서만 호출하므로 기록 경로에는 락이 없습니다.
+ * 세그먼트가 가득 차면 봉인하고 새 세그먼트로 넘어가며, 보존 기간이 지난 봉인 세그먼트는 통째로 지웁니다.
+ */
+@Slf4j
+@Component
+public class AuditLogStore {
+
+    private static final String[] PHASES = {"REQUEST", "RESPONSE", "ERROR"};
+    private static final int MAX_SHORT_FIELD_BYTES = 0xFFFF;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration retention;
+    private final long forceIntervalNanos;
+    private final int maxBodyBytes;
+
+    // 오래된 순. 마지막 원소가 기록 중인 세그먼트
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private AuditSegment active;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long lastForceNanos = System.nanoTime();
+    private boolean dirty;
+
+    public AuditLogStore(
+            @Value("${app.audit.enabled:false}") boolean enabled,
+            @Value("${app.audit.directory:data/audit}") Path directory,
+            @Value("${app.audit.segment-size:64MB}") DataSize segmentSize,
+            @Value("${app.audit.retention:30d}") Duration retention,
+            @Value("${app.audit.force-interval:1s}") Duration forceInterval,
+            @Value("${app.audit.max-body-size:16KB}") DataSize maxBodySize
+    ) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.retention = retention;
+        this.forceIntervalNanos = forceInterval.toNanos();
+        this.maxBodyBytes = Math.toIntExact(Math.min(maxBodySize.toBytes(), this.segmentSize / 2));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기존 세그먼트를 열어 이어서 씁니다. 가장 최근 세그먼트만 봉인되지 않은 상태로 보고 레코드를 훑어 복구합니다.
+     */
+    @PostConstruct
+    public synchronized void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(AuditSegment::isSegmentFile)
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            boolean last = i == paths.size() - 1;
+            try {
+                segments.add(AuditSegment.open(paths.get(i), !last));
+            } catch (IOException e) {
+                log.error("[AUDIT_STORE] 세그먼트를 열 수 없어 건너뜁니다: {}", paths.get(i), e);
+            }
+        }
+
+        if (segments.isEmpty() || segments.get(segments.size() - 1).isSealed()) {
+            // 마지막 세그먼트를 열지 못했으면 그 번호를 건너뛰고 새로 시작
+            long sequence = paths.isEmpty() ? 0 : AuditSegment.parseSequence(paths.get(paths.size() - 1)) + 1;
+            active = AuditSegment.create(directory, sequence, segmentSize);
+            segments.add(active);
+        } else {
+            active = segments.get(segments.size() - 1);
+        }
+        for (AuditSegment segment : segments) {
+            if (!segment.isEmpty()) {
+                lastTimestamp = Math.max(lastTimestamp, segment.getMaxTimestamp());
+            }
+        }
+        log.info("[AUDIT_STORE] 감사 로그 저장소 시작 - 경로: {}, 세그먼트: {}개", directory, segments.size());
+        removeExpired();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws IOException {
+        for (AuditSegment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+        active = null;
+    }
+
+    /**
+     * 레코드를 하나 기록합니다. 검색 인덱스가 시간순으로 유지되도록 시각은 직전 레코드보다 작아지지 않게 보정합니다.
+     * 여러 요청 스레드에서 만든 이벤트가 링 버퍼에서 몇 ms 순서가 바뀔 수 있기 때문입니다.
+     */
+    public void append(long timestamp, String traceId, Long userId, String phase, String method, String url,
+                       String body) {
+        if (active == null) {
+            return;
+        }
+        lastTimestamp = Math.max(lastTimestamp, timestamp);
+        byte[] traceIdBytes = truncate(bytes(traceId), MAX_SHORT_FIELD_BYTES);
+        byte[] methodBytes = truncate(bytes(method), MAX_SHORT_FIELD_BYTES);
+        byte[] urlBytes = truncate(bytes(url), MAX_SHORT_FIELD_BYTES);
+        byte[] bodyBytes = truncate(bytes(body), maxBodyBytes);
+        long user = userId == null ? AuditSegment.NO_USER : userId;
+        byte phaseCode = phaseCode(phase);
+
+        try {
+            if (!active.append(lastTimestamp, user, phaseCode, traceIdBytes, methodBytes, urlBytes, bodyBytes)) {
+                if (AuditSegment.recordSize(traceIdBytes, methodBytes, urlBytes, bodyBytes)
+                        > AuditSegment.maxRecordSize(segmentSize)) {
+                    log.warn("[AUDIT_STORE] 세그먼트보다 큰 레코드는 저장하지 않습니다 - traceId: {}", traceId);
+                    return;
+                }
+                rotate();
+                active.append(lastTimestamp, user, phaseCode, traceIdBytes, methodBytes, urlBytes, bodyBytes);
+            }
+            dirty = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막 force 이후 force-interval이 지났으면 기록 중인 세그먼트를 디스크에 내립니다.
+     * 프로세스가 죽어도 OS 페이지 캐시에 남은 내용은 보존되므로, 이 간격은 OS 장애 시 잃을 수 있는 범위입니다.
+     */
+    public void flush() {
+        if (!dirty || System.nanoTime() - lastForceNanos < forceIntervalNanos) {
+            return;
+        }
+        AuditSegment current = active;
+        if (current != null) {
+            current.force();
+        }
+        dirty = false;
+        lastForceNanos = System.nanoTime();
+    }
+
+    /**
+     * 시간 범위에 걸치는 세그먼트만 골라 오래된 순으로 읽습니다. userId/traceId 조건이 있으면 블룸 필터로 세그먼트를 먼저 거릅니다.
+     */
+    public List<AuditRecord> search(AuditQuery query) {
+        List<AuditRecord> results = new ArrayList<>(Math.min(query.getLimit(), 1024));
+        byte[] traceId = query.getTraceId() == null ? null : bytes(query.getTraceId());
+        for (AuditSegment segment : segments) {
+            if (!segment.overlaps(query.getFrom(), query.getTo())) {
+                continue;
+            }
+            if (query.getUserId() != null && !segment.mightContainUser(query.getUserId())) {
+                continue;
+            }
+            if (traceId != null && !segment.mightContainTrace(traceId)) {
+                continue;
+            }
+            if (!segment.scan(query, traceId, results)) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.retention-check-interval:PT1H}")
+    public void removeExpiredSegments() {
+        if (enabled) {
+            removeExpired();
+        }
+    }
+
+    static String phaseName(byte code) {
+        return code >= 0 && code < PHASES.length ? PHASES[code] : "UNKNOWN";
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private synchronized void rotate() throws IOException {
+        AuditSegment previous = active;
+        previous.seal();
+        active = AuditSegment.create(directory, previous.getSequence() + 1, segmentSize);
+        segments.add(active);
+        removeExpired();
+    }
+
+    private synchronized void removeExpired() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        for (AuditSegment segment : segments) {
+            if (segment == active || segment.getMaxTimestamp() >= cutoff) {
+                // 시간순으로 쌓이므로 보존 대상이 나오면 이후 세그먼트도 모두 보존 대상
+                break;
+            }
+            segments.remove(segment);
+            try {
+                segment.delete();
+                log.info("[AUDIT_STORE] 보존 기간이 지난 세그먼트 삭제: {}", segment.getPath());
+            } catch (IOException e) {
+                log.error("[AUDIT_STORE] 세그먼트 삭제 실패: {}", segment.getPath(), e);
+            }
+        }
+    }
+
+    private static byte phaseCode(String phase) {
+        for (byte i = 0; i < PHASES.length; i++) {
+            if (PHASES[i].equals(phase)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] truncate(byte[] bytes, int maxBytes) {
+        if (bytes.length <= maxBytes) {
+            return bytes;
+        }
+        // UTF-8 멀티바이트 문자 중간에서 자르지 않도록 연속 바이트(10xxxxxx)를 건너뜀
+        int length = maxBytes;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+}
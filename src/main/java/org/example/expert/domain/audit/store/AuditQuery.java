@@ -0,0 +1,26 @@
+package org.example.expert.domain.audit.store;
+
+import lombok.Getter;
+
+/**
+ * 감사 로그 검색 조건. 시간은 epoch 밀리초이며 from 이상 to 미만, 나머지 조건은 null이면 적용하지 않습니다.
+ */
+@Getter
+public class AuditQuery {
+
+    private final long from;
+    private final long to;
+    private final Long userId;
+    private final String traceId;
+    private final String urlContains;
+    private final int limit;
+
+    public AuditQuery(long from, long to, Long userId, String traceId, String urlContains, int limit) {
+        this.from = from;
+        this.to = to;
+        this.userId = userId;
+        this.traceId = traceId;
+        this.urlContains = urlContains;
+        this.limit = limit;
+    }
+}
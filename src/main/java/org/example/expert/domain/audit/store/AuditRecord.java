@@ -0,0 +1,29 @@
+package org.example.expert.domain.audit.store;
+
+import lombok.Getter;
+
+/**
+ * 감사 로그 한 건. userId가 없으면 null입니다.
+ */
+@Getter
+public class AuditRecord {
+
+    private final long timestamp;
+    private final String traceId;
+    private final Long userId;
+    private final String phase;
+    private final String method;
+    private final String url;
+    private final String body;
+
+    public AuditRecord(long timestamp, String traceId, Long userId, String phase, String method, String url,
+                       String body) {
+        this.timestamp = timestamp;
+        this.traceId = traceId;
+        this.userId = userId;
+        this.phase = phase;
+        this.method = method;
+        this.url = url;
+        this.body = body;
+    }
+}
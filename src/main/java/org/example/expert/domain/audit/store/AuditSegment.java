@@ -0,0 +1,409 @@
+package org.example.expert.domain.audit.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 고정 크기로 미리 할당해 메모리 매핑한 세그먼트 파일 하나.
+ * 기록은 감사 로그 저장소의 단일 기록 스레드만 하고, 검색 스레드는 공개된 기록 위치까지만 읽습니다.
+ *
+ * <pre>
+ * 파일 헤더: magic(int) version(int)
+ * 레코드:    length(int) crc32(int) timestamp(long) userId(long) phase(byte)
+ *            traceId(short+bytes) method(short+bytes) url(short+bytes) body(int+bytes)
+ * </pre>
+ * length가 0이면 거기서 기록이 끝난 것이고, CRC가 맞지 않는 레코드는 기록 도중 중단된 것으로 보고 그 앞까지만 복구합니다.
+ * 봉인된 세그먼트는 희소 시간 인덱스와 userId/traceId 블룸 필터를 같은 이름의 .idx 파일로 남겨 재시작 때 다시 읽지 않습니다.
+ */
+class AuditSegment {
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+    static final long NO_USER = Long.MIN_VALUE;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-\\d{20}\\.seg");
+    private static final int MAGIC = 0x41554454;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 4 + 4 + 8 + 8 + 1;
+    private static final int TIMESTAMP_OFFSET = 8;
+    private static final int USER_ID_OFFSET = 16;
+    private static final int PHASE_OFFSET = 24;
+    // 인덱스 항목 사이 간격. 64MB 세그먼트면 항목은 1024개 정도
+    private static final int INDEX_INTERVAL_BYTES = 64 * 1024;
+    // 블룸 필터 크기를 정할 때 가정하는 평균 레코드 크기
+    private static final int ESTIMATED_RECORD_BYTES = 256;
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private volatile int writePosition;
+    private volatile long minTimestamp = Long.MAX_VALUE;
+    private volatile long maxTimestamp = Long.MIN_VALUE;
+    private volatile boolean sealed;
+
+    private long[] indexTimestamps = new long[64];
+    private int[] indexOffsets = new int[64];
+    private int indexSize;
+    private int lastIndexedOffset = -INDEX_INTERVAL_BYTES;
+    private AuditBloomFilter userFilter;
+    private AuditBloomFilter traceFilter;
+    private final CRC32 crc = new CRC32();
+
+    private AuditSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        int expectedRecords = Math.max(1024, buffer.capacity() / ESTIMATED_RECORD_BYTES);
+        this.userFilter = new AuditBloomFilter(expectedRecords);
+        this.traceFilter = new AuditBloomFilter(expectedRecords);
+    }
+
+    static Path segmentPath(Path directory, long sequence) {
+        return directory.resolve(String.format("audit-%020d%s", sequence, SEGMENT_SUFFIX));
+    }
+
+    static boolean isSegmentFile(Path path) {
+        return SEGMENT_NAME.matcher(path.getFileName().toString()).matches();
+    }
+
+    static long parseSequence(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring("audit-".length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static AuditSegment create(Path directory, long sequence, int size) throws IOException {
+        Path path = segmentPath(directory, sequence);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        AuditSegment segment = new AuditSegment(sequence, path, channel, buffer);
+        segment.writePosition = FILE_HEADER_SIZE;
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트를 엽니다. 봉인된 세그먼트는 .idx 파일을 읽고, 그렇지 않으면 레코드를 처음부터 훑어 인덱스를 다시 만듭니다.
+     */
+    static AuditSegment open(Path path, boolean sealed) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.capacity() < FILE_HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("감사 로그 세그먼트 형식이 올바르지 않습니다: " + path);
+            }
+            AuditSegment segment = new AuditSegment(parseSequence(path), path, channel, buffer);
+            if (!sealed || !segment.readIndex()) {
+                segment.recover();
+            }
+            segment.sealed = sealed;
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getMinTimestamp() {
+        return minTimestamp;
+    }
+
+    long getMaxTimestamp() {
+        return maxTimestamp;
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    boolean isEmpty() {
+        return writePosition == FILE_HEADER_SIZE;
+    }
+
+    static int maxRecordSize(int segmentSize) {
+        return segmentSize - FILE_HEADER_SIZE;
+    }
+
+    static int recordSize(byte[] traceId, byte[] method, byte[] url, byte[] body) {
+        return RECORD_HEADER_SIZE + 2 + traceId.length + 2 + method.length + 2 + url.length + 4 + body.length;
+    }
+
+    /**
+     * @return 남은 공간이 모자라면 false. 호출한 쪽에서 세그먼트를 교체합니다.
+     */
+    boolean append(long timestamp, long userId, byte phase, byte[] traceId, byte[] method, byte[] url, byte[] body) {
+        int length = recordSize(traceId, method, url, body);
+        int offset = writePosition;
+        if (offset + length > buffer.capacity()) {
+            return false;
+        }
+
+        ByteBuffer record = buffer.duplicate().position(offset + 8);
+        record.putLong(timestamp).putLong(userId).put(phase);
+        putShortBytes(record, traceId);
+        putShortBytes(record, method);
+        putShortBytes(record, url);
+        record.putInt(body.length).put(body);
+
+        crc.reset();
+        crc.update(buffer.duplicate().position(offset + 8).limit(offset + length));
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        // length를 마지막에 써야 중간에 죽어도 복구 시 미완성 레코드로 판단됨
+        buffer.putInt(offset, length);
+
+        indexRecord(offset, timestamp, userId, traceId);
+        // 검색 스레드는 writePosition을 먼저 읽으므로 인덱스와 필터가 먼저 반영되어 있어야 함
+        writePosition = offset + length;
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * 더 이상 쓰지 않도록 봉인하고 인덱스를 파일로 남깁니다. .idx는 임시 파일에 쓴 뒤 이름을 바꿔 반쯤 쓰인 인덱스가 남지 않게 합니다.
+     */
+    void seal() throws IOException {
+        force();
+        sealed = true;
+
+        ByteBuffer index = ByteBuffer.allocate(4 + 4 + 8 + 8 + 4 + 4 + indexSize * 12
+                + userFilter.serializedSize() + traceFilter.serializedSize());
+        index.putInt(MAGIC).putInt(VERSION).putLong(minTimestamp).putLong(maxTimestamp)
+                .putInt(writePosition).putInt(indexSize);
+        for (int i = 0; i < indexSize; i++) {
+            index.putLong(indexTimestamps[i]).putInt(indexOffsets[i]);
+        }
+        userFilter.writeTo(index);
+        traceFilter.writeTo(index);
+        index.flip();
+
+        Path indexPath = indexPath(path);
+        Path tempPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (index.hasRemaining()) {
+                out.write(index);
+            }
+            out.force(true);
+        }
+        Files.move(tempPath, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    void close() throws IOException {
+        if (!sealed) {
+            force();
+        }
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(indexPath(path));
+        // 매핑은 GC될 때 해제되며, 그 전까지 진행 중인 검색은 이미 매핑된 내용을 계속 읽을 수 있음
+        Files.deleteIfExists(path);
+    }
+
+    boolean overlaps(long from, long to) {
+        return !isEmpty() && minTimestamp < to && maxTimestamp >= from;
+    }
+
+    boolean mightContainUser(long userId) {
+        return userFilter.mightContain(userId);
+    }
+
+    boolean mightContainTrace(byte[] traceId) {
+        return traceFilter.mightContain(AuditBloomFilter.hash(traceId));
+    }
+
+    /**
+     * [from, to) 구간의 레코드를 조건에 맞는 것만 꺼내 담습니다. 시간·userId 조건은 고정 위치 필드만 보고 먼저 거르고,
+     * 통과한 레코드만 문자열을 디코딩합니다.
+     *
+     * @return 결과가 limit에 도달했으면 false
+     */
+    boolean scan(AuditQuery query, byte[] traceId, List<AuditRecord> results) {
+        int end = writePosition;
+        int offset = startOffset(query.getFrom());
+        ByteBuffer view = buffer.duplicate();
+        long userId = query.getUserId() == null ? NO_USER : query.getUserId();
+
+        while (offset < end) {
+            int length = view.getInt(offset);
+            long timestamp = view.getLong(offset + TIMESTAMP_OFFSET);
+            if (timestamp >= query.getTo()) {
+                return true;
+            }
+            if (timestamp >= query.getFrom()
+                    && (query.getUserId() == null || view.getLong(offset + USER_ID_OFFSET) == userId)) {
+                AuditRecord record = decode(view, offset, timestamp, traceId, query.getUrlContains());
+                if (record != null) {
+                    results.add(record);
+                    if (results.size() >= query.getLimit()) {
+                        return false;
+                    }
+                }
+            }
+            offset += length;
+        }
+        return true;
+    }
+
+    private AuditRecord decode(ByteBuffer view, int offset, long timestamp, byte[] traceIdFilter, String urlContains) {
+        long userId = view.getLong(offset + USER_ID_OFFSET);
+        byte phase = view.get(offset + PHASE_OFFSET);
+        ByteBuffer record = view.duplicate().position(offset + RECORD_HEADER_SIZE);
+        byte[] traceId = getShortBytes(record);
+        if (traceIdFilter != null && !Arrays.equals(traceId, traceIdFilter)) {
+            return null;
+        }
+        byte[] method = getShortBytes(record);
+        String url = new String(getShortBytes(record), StandardCharsets.UTF_8);
+        if (urlContains != null && !url.contains(urlContains)) {
+            return null;
+        }
+        byte[] body = new byte[record.getInt()];
+        record.get(body);
+        return new AuditRecord(timestamp, new String(traceId, StandardCharsets.UTF_8),
+                userId == NO_USER ? null : userId, AuditLogStore.phaseName(phase),
+                new String(method, StandardCharsets.UTF_8), url,
+                body.length == 0 ? null : new String(body, StandardCharsets.UTF_8));
+    }
+
+    // 시각이 from 이하인 마지막 인덱스 항목부터 읽기 시작
+    private synchronized int startOffset(long from) {
+        int low = 0;
+        int high = indexSize - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexTimestamps[mid] <= from) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? FILE_HEADER_SIZE : indexOffsets[found];
+    }
+
+    private void indexRecord(int offset, long timestamp, long userId, byte[] traceId) {
+        if (timestamp < minTimestamp) {
+            minTimestamp = timestamp;
+        }
+        if (timestamp > maxTimestamp) {
+            maxTimestamp = timestamp;
+        }
+        if (userId != NO_USER) {
+            userFilter.add(userId);
+        }
+        traceFilter.add(AuditBloomFilter.hash(traceId));
+        if (offset - lastIndexedOffset >= INDEX_INTERVAL_BYTES) {
+            addIndexEntry(timestamp, offset);
+            lastIndexedOffset = offset;
+        }
+    }
+
+    private synchronized void addIndexEntry(long timestamp, int offset) {
+        if (indexSize == indexOffsets.length) {
+            indexTimestamps = Arrays.copyOf(indexTimestamps, indexSize * 2);
+            indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+        }
+        indexTimestamps[indexSize] = timestamp;
+        indexOffsets[indexSize] = offset;
+        indexSize++;
+    }
+
+    private void recover() {
+        int offset = FILE_HEADER_SIZE;
+        int capacity = buffer.capacity();
+        while (offset + RECORD_HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length < RECORD_HEADER_SIZE || offset + length > capacity) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.duplicate().position(offset + 8).limit(offset + length));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            ByteBuffer record = buffer.duplicate().position(offset + RECORD_HEADER_SIZE);
+            indexRecord(offset, buffer.getLong(offset + TIMESTAMP_OFFSET), buffer.getLong(offset + USER_ID_OFFSET),
+                    getShortBytes(record));
+            offset += length;
+        }
+        // 중단된 레코드의 흔적을 지워야 이어서 쓴 레코드 뒤에서 복구가 멈추지 않음
+        for (int i = offset; i < Math.min(capacity, offset + RECORD_HEADER_SIZE); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        writePosition = offset;
+    }
+
+    private boolean readIndex() throws IOException {
+        Path indexPath = indexPath(path);
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+        ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        if (index.remaining() < 32 || index.getInt() != MAGIC || index.getInt() != VERSION) {
+            return false;
+        }
+        minTimestamp = index.getLong();
+        maxTimestamp = index.getLong();
+        writePosition = index.getInt();
+        indexSize = index.getInt();
+        indexTimestamps = new long[Math.max(1, indexSize)];
+        indexOffsets = new int[Math.max(1, indexSize)];
+        for (int i = 0; i < indexSize; i++) {
+            indexTimestamps[i] = index.getLong();
+            indexOffsets[i] = index.getInt();
+        }
+        userFilter = AuditBloomFilter.readFrom(index);
+        traceFilter = AuditBloomFilter.readFrom(index);
+        return true;
+    }
+
+    private static Path indexPath(Path segmentPath) {
+        String name = segmentPath.getFileName().toString();
+        return segmentPath.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    private static void putShortBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static byte[] getShortBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
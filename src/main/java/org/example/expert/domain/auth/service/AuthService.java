@@ -13,6 +13,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserProfileCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserProfileCache userProfileCache;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -42,6 +44,7 @@ public class AuthService {
                 userRole
         );
         User savedUser = userRepository.save(newUser);
+        userProfileCache.invalidate(savedUser.getId());
 
         log.info("회원가입 완료 - ID: {}, Email: {}, Role: {}",
                 savedUser.getId(), savedUser.getEmail(), userRole);
@@ -73,6 +76,6 @@ public class AuthService {
     }
 
     private String createToken(User user) {
-        return jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        return jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion());
     }
 }
@@ -1,11 +1,18 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentModerationRequest;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentArchiveService;
 import org.example.expert.domain.common.annotation.AdminLog;
+import org.example.expert.domain.common.dto.JobResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -13,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final CommentArchiveService commentArchiveService;
 
     @AdminLog
     @DeleteMapping("/admin/comments/{commentId}")
@@ -20,4 +28,27 @@ public class CommentAdminController {
         commentAdminService.deleteComment(commentId);
         return ResponseEntity.noContent().build();
     }
+
+    @AdminLog
+    @PostMapping("/admin/comments/moderation")
+    public ResponseEntity<JobResponse> startModeration(
+            @Valid @RequestBody CommentModerationRequest commentModerationRequest) {
+        return ResponseEntity.accepted().body(commentAdminService.startModeration(commentModerationRequest));
+    }
+
+    @GetMapping("/admin/comments/moderation/{jobId}")
+    public ResponseEntity<JobResponse> getModerationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(commentAdminService.getModerationJob(jobId));
+    }
+
+    @AdminLog
+    @PostMapping("/admin/comments/archive")
+    public ResponseEntity<JobResponse> startArchive() {
+        return ResponseEntity.accepted().body(commentArchiveService.startArchive());
+    }
+
+    @GetMapping("/admin/comments/archive/{jobId}")
+    public ResponseEntity<JobResponse> getArchiveJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(commentArchiveService.getArchiveJob(jobId));
+    }
 }
@@ -0,0 +1,54 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제 대상은 댓글 id 목록, 작성자, 할일과 기간 중 하나로만 지정합니다.
+ * 기간은 from 이상 to 미만입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentModerationRequest {
+
+    @Size(max = 10000, message = "댓글 id는 한 번에 10000개까지 지정할 수 있습니다.")
+    private List<Long> commentIds;
+
+    private Long userId;
+
+    private Long todoId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    public boolean byCommentIds() {
+        return commentIds != null && !commentIds.isEmpty();
+    }
+
+    public boolean byUser() {
+        return userId != null;
+    }
+
+    public boolean byTodo() {
+        return todoId != null;
+    }
+
+    @AssertTrue(message = "댓글 id 목록, 작성자, 할일 중 하나만 지정해야 합니다.")
+    private boolean isSingleCriterion() {
+        int criteria = (byCommentIds() ? 1 : 0) + (byUser() ? 1 : 0) + (byTodo() ? 1 : 0);
+        return criteria == 1;
+    }
+
+    @AssertTrue(message = "할일 기준 삭제는 from < to 인 기간이 필요합니다.")
+    private boolean isValidTimeRange() {
+        if (!byTodo()) {
+            return from == null && to == null;
+        }
+        return from != null && to != null && from.isBefore(to);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.comment.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+/**
+ * 보관 기간이 지나 comments 테이블에서 옮겨진 댓글. id는 원래 댓글의 id를 그대로 사용합니다.
+ * 행은 CommentArchiveService가 JDBC 배치로만 쓰고, 엔티티는 조회와 관리자 삭제(CommentAdminService)에만 사용합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "comments_archive",
+        indexes = @Index(name = "idx_comments_archive_todo_id_created_at_id", columnList = "todo_id, created_at, id")
+)
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    // 압축된 본문. 형식은 CommentContentCodec 참고
+    @Column(nullable = false, length = 2048)
+    private byte[] contents;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -10,9 +10,14 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = @Index(name = "idx_comments_todo_id_created_at_id", columnList = "todo_id, created_at, id")
+)
 public class Comment extends Timestamped {
 
+    public static final String TODO_FOREIGN_KEY = "fk_comments_todo_id";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String contents;
@@ -22,7 +27,7 @@ public class Comment extends Timestamped {
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "todo_id", nullable = false)
+    @JoinColumn(name = "todo_id", nullable = false, foreignKey = @ForeignKey(name = TODO_FOREIGN_KEY))
     private Todo todo;
 
     public Comment(String contents, User user, Todo todo) {
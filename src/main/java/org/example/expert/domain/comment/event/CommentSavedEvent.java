@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+@Getter
+public class CommentSavedEvent {
+
+    private final long todoId;
+    private final CommentResponse comment;
+
+    public CommentSavedEvent(long todoId, CommentResponse comment) {
+        this.todoId = todoId;
+        this.comment = comment;
+    }
+}
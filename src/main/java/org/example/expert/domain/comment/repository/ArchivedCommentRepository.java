@@ -0,0 +1,51 @@
+package org.example.expert.domain.comment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.example.expert.domain.comment.entity.ArchivedComment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    // 이 할일에서 가장 최근에 작성된 보관 댓글의 시각. (todo_id, created_at, id) 인덱스 한 번의 탐색으로 끝남
+    @Query("SELECT max(a.createdAt) FROM ArchivedComment a WHERE a.todoId = :todoId")
+    Optional<LocalDateTime> findLatestCreatedAtByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT a FROM ArchivedComment a JOIN FETCH a.user WHERE a.todoId = :todoId ORDER BY a.createdAt, a.id")
+    List<ArchivedComment> findFirstPageByTodoIdWithUser(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT a FROM ArchivedComment a JOIN FETCH a.user WHERE a.todoId = :todoId "
+            + "AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id)) "
+            + "ORDER BY a.createdAt, a.id")
+    List<ArchivedComment> findNextPageByTodoIdWithUser(@Param("todoId") Long todoId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Limit limit);
+
+    @Query("SELECT a.id FROM ArchivedComment a WHERE a.user.id = :userId AND a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT a.id FROM ArchivedComment a WHERE a.todoId = :todoId "
+            + "AND a.createdAt >= :from AND a.createdAt < :to AND a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsByTodoIdAndCreatedAtRange(@Param("todoId") Long todoId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("afterId") Long afterId,
+                                                Limit limit);
+
+    long countByUserId(Long userId);
+
+    @Query("SELECT count(a) FROM ArchivedComment a WHERE a.todoId = :todoId AND a.createdAt >= :from AND a.createdAt < :to")
+    long countByTodoIdAndCreatedAtRange(@Param("todoId") Long todoId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedComment a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
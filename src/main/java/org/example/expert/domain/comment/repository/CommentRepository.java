@@ -1,14 +1,48 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    List<Comment> findFirstPageByTodoIdWithUser(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt, c.id")
+    List<Comment> findNextPageByTodoIdWithUser(@Param("todoId") Long todoId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    // 관리자 일괄 삭제용. 엔티티를 읽지 않고 id만 keyset 방식으로 잘라서 조회합니다.
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId AND c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId "
+            + "AND c.createdAt >= :from AND c.createdAt < :to AND c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsByTodoIdAndCreatedAtRange(@Param("todoId") Long todoId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("afterId") Long afterId,
+                                                Limit limit);
+
+    long countByUserId(Long userId);
+
+    @Query("SELECT count(c) FROM Comment c WHERE c.todo.id = :todoId AND c.createdAt >= :from AND c.createdAt < :to")
+    long countByTodoIdAndCreatedAtRange(@Param("todoId") Long todoId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
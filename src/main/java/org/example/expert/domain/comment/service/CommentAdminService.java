@@ -1,23 +1,142 @@
 package org.example.expert.domain.comment.service;
 
+import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.dto.request.CommentModerationRequest;
+import org.example.expert.domain.comment.repository.ArchivedCommentRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.JobResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
+    static final String MODERATION_JOB_TYPE = "COMMENT_MODERATION";
+
     private final CommentRepository commentRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final JobRegistry jobRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.comment.moderation.chunk-size:1000}")
+    private int chunkSize;
+
+    // 청크 사이 대기 시간. 복제 지연이나 잠금 경합이 문제가 되면 늘립니다.
+    @Value("${app.comment.moderation.chunk-pause:0ms}")
+    private Duration chunkPause;
 
+    /**
+     * 댓글은 보관 작업으로 comments_archive로 옮겨졌을 수 있으므로 두 테이블에서 모두 삭제합니다.
+     */
     @Transactional
     public void deleteComment(long commentId) {
-        Comment savedComment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        if (deleteFromBothTables(List.of(commentId)) == 0) {
+            throw new InvalidRequestException("Comment not found");
+        }
+    }
+
+    public JobResponse startModeration(CommentModerationRequest request) {
+        Job job = jobRegistry.submit(MODERATION_JOB_TYPE, running -> moderate(running, request));
+        return new JobResponse(job);
+    }
+
+    public JobResponse getModerationJob(String jobId) {
+        return jobRegistry.find(jobId, MODERATION_JOB_TYPE)
+                .map(JobResponse::new)
+                .orElseThrow(() -> new InvalidRequestException("Job not found"));
+    }
+
+    private void moderate(Job job, CommentModerationRequest request) {
+        if (request.byCommentIds()) {
+            List<Long> ids = request.getCommentIds().stream().distinct().sorted().toList();
+            job.setTotal(ids.size());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                if (from > 0) {
+                    pauseBetweenChunks();
+                }
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                transactionTemplate.executeWithoutResult(status ->
+                        job.addProcessed(deleteFromBothTables(chunk)));
+            }
+        } else if (request.byUser()) {
+            Long userId = request.getUserId();
+            job.setTotal(commentRepository.countByUserId(userId) + archivedCommentRepository.countByUserId(userId));
+            deleteByKeyset(job,
+                    afterId -> commentRepository.findIdsByUserId(userId, afterId, Limit.of(chunkSize)),
+                    commentRepository::deleteAllByIdIn);
+            deleteByKeyset(job,
+                    afterId -> archivedCommentRepository.findIdsByUserId(userId, afterId, Limit.of(chunkSize)),
+                    archivedCommentRepository::deleteAllByIdIn);
+        } else {
+            Long todoId = request.getTodoId();
+            job.setTotal(commentRepository.countByTodoIdAndCreatedAtRange(todoId, request.getFrom(), request.getTo())
+                    + archivedCommentRepository.countByTodoIdAndCreatedAtRange(todoId, request.getFrom(), request.getTo()));
+            deleteByKeyset(job,
+                    afterId -> commentRepository.findIdsByTodoIdAndCreatedAtRange(
+                            todoId, request.getFrom(), request.getTo(), afterId, Limit.of(chunkSize)),
+                    commentRepository::deleteAllByIdIn);
+            deleteByKeyset(job,
+                    afterId -> archivedCommentRepository.findIdsByTodoIdAndCreatedAtRange(
+                            todoId, request.getFrom(), request.getTo(), afterId, Limit.of(chunkSize)),
+                    archivedCommentRepository::deleteAllByIdIn);
+        }
+    }
+
+    // 보관 작업은 옮길 행을 잠근 뒤 복사하므로, 보관 중인 댓글은 기존 테이블 삭제가 커밋을 기다린 뒤 보관 테이블에서 지워짐
+    private int deleteFromBothTables(List<Long> ids) {
+        return commentRepository.deleteAllByIdIn(ids) + archivedCommentRepository.deleteAllByIdIn(ids);
+    }
+
+    // 보관 테이블을 나중에 처리하므로 그 사이 보관된 댓글도 함께 삭제됨
+    private void deleteByKeyset(Job job, IdChunkLoader loader, IdChunkDeleter deleter) {
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            // 청크마다 별도 트랜잭션으로 커밋해서 잠금 유지 시간과 undo 로그 크기를 제한
+            List<Long> chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = loader.load(cursor);
+                if (!ids.isEmpty()) {
+                    job.addProcessed(deleter.delete(ids));
+                }
+                return ids;
+            });
+            if (chunk == null || chunk.size() < chunkSize) {
+                return;
+            }
+            afterId = chunk.get(chunk.size() - 1);
+            pauseBetweenChunks();
+        }
+    }
+
+    private void pauseBetweenChunks() {
+        if (chunkPause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 일괄 삭제가 중단되었습니다.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdChunkLoader {
+        List<Long> load(long afterId);
+    }
 
-        commentRepository.delete(savedComment);
+    @FunctionalInterface
+    private interface IdChunkDeleter {
+        int delete(List<Long> ids);
     }
 }
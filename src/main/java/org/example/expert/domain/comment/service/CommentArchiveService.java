@@ -0,0 +1,177 @@
+package org.example.expert.domain.comment.service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.JobResponse;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 댓글을 comments_archive로 옮겨 comments 테이블과 인덱스 크기를 최근 활동량 수준으로 유지합니다.
+ * 배치마다 한 트랜잭션에서 보관 테이블 INSERT와 원본 DELETE를 함께 커밋하므로 중간에 실패해도 댓글이 사라지거나 중복되지 않습니다.
+ */
+@Slf4j
+@Service
+public class CommentArchiveService {
+
+    static final String ARCHIVE_JOB_TYPE = "COMMENT_ARCHIVE";
+
+    // 기본 키 순서로 읽어 인덱스를 추가하지 않고도 범위 스캔만 하도록 함.
+    // 옮기는 동안 관리자 삭제가 끼어들어 삭제된 댓글이 보관 테이블에 복사되지 않도록 행을 잠금
+    private static final String SELECT_SQL = "select id, contents, user_id, todo_id, created_at, modified_at "
+            + "from comments where id > ? order by id limit ? for update";
+    private static final String INSERT_SQL = "insert into comments_archive "
+            + "(id, contents, user_id, todo_id, created_at, modified_at, archived_at) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "delete from comments where id in (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRegistry jobRegistry;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CommentArchiveService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            JobRegistry jobRegistry,
+            @Value("${app.comment.archive.enabled:false}") boolean enabled,
+            @Value("${app.comment.archive.min-age:180d}") Duration minAge,
+            @Value("${app.comment.archive.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.jobRegistry = jobRegistry;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.comment.archive.cron:-}")
+    public void archiveOnSchedule() {
+        if (!enabled || running.get()) {
+            return;
+        }
+        startArchive();
+    }
+
+    public JobResponse startArchive() {
+        if (!enabled) {
+            throw new InvalidRequestException("댓글 보관 기능이 비활성화되어 있습니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("이미 댓글 보관 작업이 실행 중입니다.");
+        }
+        try {
+            return new JobResponse(jobRegistry.submit(ARCHIVE_JOB_TYPE, job -> {
+                try {
+                    archive(job);
+                } finally {
+                    running.set(false);
+                }
+            }));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public JobResponse getArchiveJob(String jobId) {
+        return jobRegistry.find(jobId, ARCHIVE_JOB_TYPE)
+                .map(JobResponse::new)
+                .orElseThrow(() -> new InvalidRequestException("Job not found"));
+    }
+
+    void archive(Job job) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<ArchiveRow> batch = transactionTemplate.execute(status -> moveBatch(cursor, cutoff));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            job.addProcessed(batch.size());
+            afterId = batch.get(batch.size() - 1).id;
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("[COMMENT_ARCHIVE] 기준 시각: {}, 보관 건수: {}", cutoff, job.getProcessed());
+    }
+
+    private List<ArchiveRow> moveBatch(long afterId, LocalDateTime cutoff) {
+        List<ArchiveRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new ArchiveRow(
+                rs.getLong("id"),
+                rs.getString("contents"),
+                rs.getLong("user_id"),
+                rs.getLong("todo_id"),
+                rs.getTimestamp("created_at"),
+                rs.getTimestamp("modified_at")
+        ), afterId, batchSize);
+
+        // id와 작성 시각은 같은 순서로 증가하므로 기준 시각 이후 댓글을 만나면 그 뒤는 모두 최신 댓글
+        List<ArchiveRow> expired = new ArrayList<>(rows.size());
+        for (ArchiveRow row : rows) {
+            if (row.createdAt == null || !row.createdAt.toLocalDateTime().isBefore(cutoff)) {
+                break;
+            }
+            expired.add(row);
+        }
+        if (expired.isEmpty()) {
+            return expired;
+        }
+
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, expired, expired.size(), (PreparedStatement ps, ArchiveRow row) -> {
+            ps.setLong(1, row.id);
+            ps.setBytes(2, CommentContentCodec.encode(row.contents == null ? "" : row.contents));
+            ps.setLong(3, row.userId);
+            ps.setLong(4, row.todoId);
+            ps.setTimestamp(5, row.createdAt);
+            ps.setTimestamp(6, row.modifiedAt);
+            ps.setTimestamp(7, archivedAt);
+        });
+        List<Long> ids = expired.stream().map(row -> row.id).toList();
+        namedParameterJdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+        return expired;
+    }
+
+    private static class ArchiveRow {
+
+        private final long id;
+        private final String contents;
+        private final long userId;
+        private final long todoId;
+        private final Timestamp createdAt;
+        private final Timestamp modifiedAt;
+
+        private ArchiveRow(long id, String contents, long userId, long todoId,
+                           Timestamp createdAt, Timestamp modifiedAt) {
+            this.id = id;
+            this.contents = contents;
+            this.userId = userId;
+            this.todoId = todoId;
+            this.createdAt = createdAt;
+            this.modifiedAt = modifiedAt;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.comment.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.example.expert.domain.common.exception.ServerException;
+
+/**
+ * 보관 댓글 본문 인코딩. 첫 바이트가 형식을 나타내고 나머지가 본문입니다.
+ * 짧은 본문은 deflate 헤더 때문에 오히려 커질 수 있어, 압축 결과가 더 작을 때만 압축본을 저장합니다.
+ */
+public final class CommentContentCodec {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+
+    private CommentContentCodec() {
+    }
+
+    public static byte[] encode(String contents) {
+        byte[] raw = contents.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = deflate(raw);
+        if (compressed.length < raw.length) {
+            return withHeader(DEFLATE, compressed);
+        }
+        return withHeader(RAW, raw);
+    }
+
+    public static String decode(byte[] encoded) {
+        byte[] body = Arrays.copyOfRange(encoded, 1, encoded.length);
+        return switch (encoded[0]) {
+            case RAW -> new String(body, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(body), StandardCharsets.UTF_8);
+            default -> throw new ServerException("알 수 없는 보관 댓글 형식입니다.");
+        };
+    }
+
+    private static byte[] withHeader(byte format, byte[] body) {
+        byte[] encoded = new byte[body.length + 1];
+        encoded[0] = format;
+        System.arraycopy(body, 0, encoded, 1, body.length);
+        return encoded;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && inflater.needsInput()) {
+                    throw new ServerException("보관 댓글 본문이 손상되었습니다.");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new ServerException("보관 댓글 본문이 손상되었습니다.");
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.metrics.BucketHistogram;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 INSERT를 모아서 한 트랜잭션의 JDBC 배치로 저장합니다 (group commit).
+ * 요청 스레드는 자신이 속한 배치가 커밋된 뒤에야 응답하므로 저장 보장 수준은 단건 저장과 같습니다.
+ * 실패로 응답한 댓글은 나중에라도 저장되지 않습니다. 대기 시간이 지나면 배치에 들어가기 전인 경우에만 취소하고 실패로 응답하며,
+ * 이미 배치에 들어갔으면 커밋 결과를 끝까지 기다립니다.
+ */
+@Slf4j
+@Component
+public class CommentGroupCommitter {
+
+    private static final String INSERT_SQL =
+            "insert into comments (contents, user_id, todo_id, created_at, modified_at) values (?, ?, ?, ?, ?)";
+    private static final String EXISTING_TODO_IDS_SQL = "select id from todos where id in (:ids)";
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long flushIntervalNanos;
+    private final Duration awaitTimeout;
+
+    private final Queue<PendingComment> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final BucketHistogram batchSizeHistogram = new BucketHistogram();
+    private final BucketHistogram flushLatencyMicrosHistogram = new BucketHistogram();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CommentGroupCommitter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.comment.group-commit.enabled:false}") boolean enabled,
+            @Value("${app.comment.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.comment.group-commit.max-batch-size:500}") int maxBatchSize,
+            @Value("${app.comment.group-commit.flush-interval:5ms}") Duration flushInterval,
+            @Value("${app.comment.group-commit.await-timeout:5s}") Duration awaitTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "comment-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("댓글 group commit 활성화 - 최대 배치: {}, flush 간격: {}ns", maxBatchSize, flushIntervalNanos);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        // 이미 큐에 들어간 댓글은 모두 저장한 뒤 종료
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(awaitTimeout.toMillis());
+        failRemaining();
+    }
+
+    public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        if (!running) {
+            throw new ServerException("댓글 일괄 저장이 실행 중이 아닙니다.");
+        }
+        if (queuedCount.incrementAndGet() > queueCapacity) {
+            queuedCount.decrementAndGet();
+            throw new ServerException("댓글 저장 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        PendingComment pending = new PendingComment(
+                commentSaveRequest.getContents(), authUser.getId(), authUser.getEmail(), todoId, LocalDateTime.now());
+        queue.offer(pending);
+        // 확인과 offer 사이에 stop()이 끝났다면 꺼낼 스레드가 없으므로 직접 취소
+        if (!running && pending.cancel()) {
+            throw new ServerException("댓글 일괄 저장이 실행 중이 아닙니다.");
+        }
+        if (queuedCount.get() >= maxBatchSize) {
+            LockSupport.unpark(writerThread);
+        }
+
+        long commentId = await(pending);
+        return new CommentSaveResponse(
+                commentId,
+                pending.contents,
+                new UserResponse(authUser.getId(), authUser.getEmail())
+        );
+    }
+
+    private long await(PendingComment pending) {
+        try {
+            try {
+                return pending.result.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 실패로 응답한 뒤 저장되면 재시도한 클라이언트가 중복 댓글을 만들므로, 취소에 성공한 경우에만 실패로 응답
+                if (pending.cancel()) {
+                    throw new ServerException("댓글 저장 대기 시간이 초과되었습니다.");
+                }
+                return pending.result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("댓글 저장 중 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 저장이 중단되었습니다.");
+        }
+    }
+
+    private void runWriter() {
+        List<PendingComment> batch = new ArrayList<>(maxBatchSize);
+        long lastReportNanos = System.nanoTime();
+
+        while (running || !queue.isEmpty()) {
+            if (running && queuedCount.get() < maxBatchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+
+            PendingComment pending;
+            while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+                queuedCount.decrementAndGet();
+                // 요청 쪽에서 이미 취소한 댓글은 건너뜀
+                if (pending.claim()) {
+                    batch.add(pending);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+
+            if (System.nanoTime() - lastReportNanos >= REPORT_INTERVAL_NANOS) {
+                report();
+                lastReportNanos = System.nanoTime();
+            }
+        }
+        report();
+    }
+
+    // 종료 대기 시간 안에 꺼내지 못한 댓글은 저장하지 않고 실패로 응답
+    private void failRemaining() {
+        ServerException failure = new ServerException("댓글 일괄 저장이 실행 중이 아닙니다.");
+        PendingComment pending;
+        while ((pending = queue.poll()) != null) {
+            queuedCount.decrementAndGet();
+            if (pending.cancel()) {
+                pending.result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private void flush(List<PendingComment> batch) {
+        long startNanos = System.nanoTime();
+        List<PendingComment> accepted;
+        try {
+            accepted = transactionTemplate.execute(status -> insertBatch(batch));
+        } catch (RuntimeException e) {
+            log.error("댓글 배치 저장 실패 - 배치 크기: {}", batch.size(), e);
+            ServerException failure = new ServerException("댓글 저장 중 오류가 발생했습니다.");
+            batch.forEach(pending -> pending.result.completeExceptionally(failure));
+            return;
+        }
+
+        // 커밋이 끝난 뒤에 대기 중인 요청을 깨움
+        for (PendingComment pending : accepted) {
+            pending.result.complete(pending.id);
+            eventPublisher.publishEvent(new CommentSavedEvent(pending.todoId, new CommentResponse(
+                    pending.id, pending.contents, new UserResponse(pending.userId, pending.userEmail))));
+        }
+        batchSizeHistogram.record(batch.size());
+        flushLatencyMicrosHistogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    private List<PendingComment> insertBatch(List<PendingComment> batch) {
+        Set<Long> todoIds = new HashSet<>();
+        for (PendingComment pending : batch) {
+            todoIds.add(pending.todoId);
+        }
+        Set<Long> existingTodoIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                EXISTING_TODO_IDS_SQL, Map.of("ids", todoIds), Long.class));
+
+        List<PendingComment> accepted = new ArrayList<>(batch.size());
+        for (PendingComment pending : batch) {
+            if (existingTodoIds.contains(pending.todoId)) {
+                accepted.add(pending);
+            } else {
+                pending.result.completeExceptionally(new InvalidRequestException("Todo not found"));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return accepted;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingComment pending : accepted) {
+                    Timestamp createdAt = Timestamp.valueOf(pending.createdAt);
+                    ps.setString(1, pending.contents);
+                    ps.setLong(2, pending.userId);
+                    ps.setLong(3, pending.todoId);
+                    ps.setTimestamp(4, createdAt);
+                    ps.setTimestamp(5, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (generatedKeys.next()) {
+                        accepted.get(index++).id = generatedKeys.getLong(1);
+                    }
+                }
+            }
+            return null;
+        });
+        return accepted;
+    }
+
+    private void report() {
+        BucketHistogram.Snapshot batchSize = batchSizeHistogram.snapshotAndReset();
+        BucketHistogram.Snapshot flushLatency = flushLatencyMicrosHistogram.snapshotAndReset();
+        if (batchSize.getCount() == 0) {
+            return;
+        }
+        log.info("[COMMENT_GROUP_COMMIT] flush 횟수: {}, 배치 크기 p50={} p99={} max={}, flush 지연(us) p50={} p99={} max={}",
+                batchSize.getCount(),
+                batchSize.getP50(), batchSize.getP99(), batchSize.getMax(),
+                flushLatency.getP50(), flushLatency.getP99(), flushLatency.getMax());
+    }
+
+    private static class PendingComment {
+
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final String contents;
+        private final long userId;
+        private final String userEmail;
+        private final long todoId;
+        private final LocalDateTime createdAt;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        // 쓰기 스레드의 claim과 요청 스레드의 cancel 중 먼저 성공한 쪽만 유효
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private long id;
+
+        private PendingComment(String contents, long userId, String userEmail, long todoId, LocalDateTime createdAt) {
+            this.contents = contents;
+            this.userId = userId;
+            this.userEmail = userEmail;
+            this.todoId = todoId;
+            this.createdAt = createdAt;
+        }
+
+        private boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+    }
+}
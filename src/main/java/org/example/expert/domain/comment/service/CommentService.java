@@ -4,32 +4,56 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.entity.ArchivedComment;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.ArchivedCommentRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final Comparator<PageItem> PAGE_ORDER =
+            Comparator.comparing((PageItem item) -> item.createdAt).thenComparing(item -> item.id);
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final CommentStreamHub commentStreamHub;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.comment.max-page-size:100}")
+    private int maxPageSize;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // 존재 여부만 확인하고 Todo는 참조 프록시로 연결해 엔티티 전체를 읽지 않음
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -38,28 +62,96 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+
+        // 구독자에게는 커밋이 끝난 뒤에 전달됨
+        eventPublisher.publishEvent(new CommentSavedEvent(todoId,
+                new CommentResponse(savedComment.getId(), savedComment.getContents(), userResponse)));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
+                userResponse
         );
     }
 
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    public SseEmitter subscribeComments(long todoId, Long lastEventId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return commentStreamHub.subscribe(todoId, lastEventId);
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        KeysetCursor commentCursor = cursor == null ? null : KeysetCursor.decode(cursor);
+
+        List<PageItem> items = new ArrayList<>(pageSize + 1);
+        List<Comment> commentList = commentCursor == null
+                ? commentRepository.findFirstPageByTodoIdWithUser(todoId, limit)
+                : commentRepository.findNextPageByTodoIdWithUser(
+                        todoId, commentCursor.getTimestamp(), commentCursor.getId(), limit);
         for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+            items.add(new PageItem(comment.getCreatedAt(), comment.getId(),
+                    toResponse(comment.getId(), comment.getContents(), comment.getUser())));
+        }
+
+        if (readsArchive(todoId, commentCursor)) {
+            List<ArchivedComment> archivedList = commentCursor == null
+                    ? archivedCommentRepository.findFirstPageByTodoIdWithUser(todoId, limit)
+                    : archivedCommentRepository.findNextPageByTodoIdWithUser(
+                            todoId, commentCursor.getTimestamp(), commentCursor.getId(), limit);
+            for (ArchivedComment archived : archivedList) {
+                items.add(new PageItem(archived.getCreatedAt(), archived.getId(), toResponse(
+                        archived.getId(), CommentContentCodec.decode(archived.getContents()), archived.getUser())));
+            }
+            items.sort(PAGE_ORDER);
+        }
+
+        boolean hasNext = items.size() > pageSize;
+        List<PageItem> pageContent = hasNext ? items.subList(0, pageSize) : items;
+
+        List<CommentResponse> dtoList = new ArrayList<>(pageContent.size());
+        for (PageItem item : pageContent) {
+            dtoList.add(item.response);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            PageItem last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt, last.id).encode();
+        }
+        return new CursorPageResponse<>(dtoList, nextCursor);
+    }
+
+    // 경계는 보관 작업 설정이 아니라 실제로 옮겨진 행에서 구함. 설정을 끄거나 보관 기간을 바꿔도 이미 보관된 댓글은 계속 보이고,
+    // 이 할일의 가장 최근 보관 댓글보다 뒤에서 시작하는 페이지만 보관 테이블 조회를 건너뜀
+    private boolean readsArchive(long todoId, KeysetCursor commentCursor) {
+        Optional<LocalDateTime> latestArchived = archivedCommentRepository.findLatestCreatedAtByTodoId(todoId);
+        if (latestArchived.isEmpty()) {
+            return false;
+        }
+        return commentCursor == null || !commentCursor.getTimestamp().isAfter(latestArchived.get());
+    }
+
+    private static CommentResponse toResponse(Long id, String contents, User user) {
+        return new CommentResponse(id, contents, new UserResponse(user.getId(), user.getEmail()));
+    }
+
+    private static class PageItem {
+
+        private final LocalDateTime createdAt;
+        private final Long id;
+        private final CommentResponse response;
+
+        private PageItem(LocalDateTime createdAt, Long id, CommentResponse response) {
+            this.createdAt = createdAt;
+            this.id = id;
+            this.response = response;
         }
-        return dtoList;
     }
 }
@@ -0,0 +1,255 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 할일별 새 댓글을 SSE 구독자에게 전달하는 인메모리 pub/sub 허브.
+ * 발행자는 구독자별 고정 크기 버퍼에 넣기만 하고, 버퍼가 가득 찬 느린 구독자는 연결을 끊습니다.
+ * SSE 이벤트 id는 댓글 id가 아니라 발행 순서대로 매기는 번호입니다. 동시에 커밋된 트랜잭션은 id가 큰 댓글이 먼저 발행될 수 있어
+ * 댓글 id로는 재연결 위치를 정할 수 없기 때문입니다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    private static final String COMMENT_EVENT = "comment";
+    private static final String RESYNC_EVENT = "resync";
+
+    private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+    // 모든 토픽이 함께 쓰는 발행 번호. 토픽이 정리된 뒤 다시 만들어지거나 서버가 재시작해도 이전 번호보다 작아지지 않도록
+    // 시작 시각(마이크로초 단위)에서 출발
+    private final AtomicLong sequence = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    private final ScheduledExecutorService executor;
+    private final int subscriberBufferSize;
+    private final int replaySize;
+    private final long emitterTimeoutMillis;
+    private final long retentionNanos;
+
+    public CommentStreamHub(
+            @Value("${app.comment.stream.subscriber-buffer-size:64}") int subscriberBufferSize,
+            @Value("${app.comment.stream.replay-size:256}") int replaySize,
+            @Value("${app.comment.stream.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${app.comment.stream.retention:1m}") Duration retention,
+            @Value("${app.comment.stream.sender-threads:4}") int senderThreads
+    ) {
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.replaySize = replaySize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.retentionNanos = retention.toNanos();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = Math.max(retention.toMillis(), 1000);
+        executor.scheduleWithFixedDelay(this::sweepIdleTopics, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(long todoId, Long lastEventId) {
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Subscriber[] created = new Subscriber[1];
+        // 정리 작업과 겹치지 않도록 토픽 생성과 구독 등록을 원자적으로 처리
+        topics.compute(todoId, (id, existing) -> {
+            Topic topic = existing == null ? new Topic(replaySize, sequence.get()) : existing;
+            created[0] = new Subscriber(topic, emitter, subscriberBufferSize);
+            topic.add(created[0], lastEventId);
+            return topic;
+        });
+        Subscriber subscriber = created[0];
+
+        emitter.onCompletion(() -> subscriber.topic.remove(subscriber));
+        emitter.onTimeout(() -> subscriber.topic.remove(subscriber));
+        emitter.onError(e -> subscriber.topic.remove(subscriber));
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentSaved(CommentSavedEvent event) {
+        Topic topic = topics.get(event.getTodoId());
+        if (topic == null) {
+            return;
+        }
+        for (Subscriber subscriber : topic.publish(event.getComment(), sequence)) {
+            schedule(subscriber);
+        }
+    }
+
+    public int subscriberCount(long todoId) {
+        Topic topic = topics.get(todoId);
+        return topic == null ? 0 : topic.subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Topic topic : topics.values()) {
+            topic.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+        topics.clear();
+    }
+
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    // SseEventBuilder는 build 시 내부 상태가 바뀌므로 구독자마다 새로 만들어 보냄
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.resyncPending.compareAndSet(true, false)) {
+                subscriber.emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            }
+            CommentEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(toEvent(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriber.topic.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.buffer.isEmpty() || subscriber.resyncPending.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void sweepIdleTopics() {
+        long now = System.nanoTime();
+        for (Long todoId : topics.keySet()) {
+            topics.computeIfPresent(todoId, (id, topic) -> topic.isIdle(now, retentionNanos) ? null : topic);
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(CommentEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.sequence))
+                .name(COMMENT_EVENT)
+                .data(event.comment);
+    }
+
+    private static class CommentEvent {
+
+        private final long sequence;
+        private final CommentResponse comment;
+
+        private CommentEvent(long sequence, CommentResponse comment) {
+            this.sequence = sequence;
+            this.comment = comment;
+        }
+    }
+
+    private static class Topic {
+
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private final Queue<CommentEvent> replay;
+        private final int replaySize;
+        // replay 버퍼에서 밀려난 가장 큰 발행 번호. 이보다 오래된 위치에서 재연결하면 누락이 생김.
+        // 토픽이 없던 동안의 댓글은 알 수 없으므로 처음에는 토픽을 만든 시점의 번호
+        private long evictedUpTo;
+        private volatile long lastActivityNanos = System.nanoTime();
+
+        private Topic(int replaySize, long createdAtSequence) {
+            this.replaySize = replaySize;
+            this.replay = new ArrayDeque<>(replaySize);
+            this.evictedUpTo = createdAtSequence;
+        }
+
+        private synchronized void add(Subscriber subscriber, Long lastEventId) {
+            if (lastEventId != null) {
+                // 놓친 이벤트를 모두 돌려줄 수 없으면 클라이언트가 목록을 다시 조회하도록 resync 이벤트를 먼저 보냄
+                if (lastEventId < evictedUpTo) {
+                    subscriber.resyncPending.set(true);
+                }
+                for (CommentEvent event : replay) {
+                    if (event.sequence > lastEventId && !subscriber.buffer.offer(event)) {
+                        subscriber.resyncPending.set(true);
+                        break;
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+            lastActivityNanos = System.nanoTime();
+        }
+
+        private void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            lastActivityNanos = System.nanoTime();
+        }
+
+        // 번호를 토픽 락 안에서 매기므로 replay와 구독자 버퍼에는 항상 번호 순서대로 들어감
+        private synchronized List<Subscriber> publish(CommentResponse comment, AtomicLong sequence) {
+            CommentEvent event = new CommentEvent(sequence.incrementAndGet(), comment);
+            if (replay.size() == replaySize) {
+                evictedUpTo = replay.poll().sequence;
+            }
+            replay.offer(event);
+            lastActivityNanos = System.nanoTime();
+
+            List<Subscriber> ready = new ArrayList<>(subscribers.size());
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.buffer.offer(event)) {
+                    ready.add(subscriber);
+                } else {
+                    // 버퍼가 가득 찬 구독자는 발행자를 막지 않도록 끊어냄. 클라이언트는 Last-Event-ID로 재연결
+                    subscribers.remove(subscriber);
+                    subscriber.emitter.complete();
+                    log.info("느린 댓글 스트림 구독자 연결 종료 - 버퍼 크기: {}", subscriber.buffer.size());
+                }
+            }
+            return ready;
+        }
+
+        private boolean isIdle(long now, long retentionNanos) {
+            return subscribers.isEmpty() && now - lastActivityNanos > retentionNanos;
+        }
+    }
+
+    private static class Subscriber {
+
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<CommentEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resyncPending = new AtomicBoolean();
+
+        private Subscriber(Topic topic, SseEmitter emitter, int bufferSize) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -8,4 +8,14 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface AdminLog {
+
+    /**
+     * 요청/응답 본문을 기록할 때 제외할 필드 이름. 중첩된 객체의 필드에도 적용됩니다.
+     */
+    String[] redact() default {"password", "oldPassword", "newPassword"};
+
+    /**
+     * 본문을 기록할 최대 바이트 수. 넘으면 잘라서 기록합니다.
+     */
+    int maxBodyBytes() default 4096;
 }
@@ -0,0 +1,17 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드가 한 요청에서 실행해도 되는 최대 SQL 문 수. Hibernate가 실행하는 문만 세며 JdbcTemplate 배치는 포함하지 않습니다.
+ * 초과하면 경고 로그를 남기고, {@code app.query-budget.mode=FAIL}이면 초과하는 순간 요청을 실패시킵니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안에서 바뀐 데이터를 담은 로컬 캐시 항목을 무효화합니다.
+ */
+public final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 중이면 커밋 후에도 한 번 더 제거합니다.
+     * 커밋 전에 다른 요청이 이전 상태를 다시 적재할 수 있기 때문입니다.
+     */
+    public static <K> void invalidateNowAndAfterCommit(Cache<K, ?> cache, K key) {
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.domain.common.collection;
+
+/**
+ * long 키와 long 값을 박싱 없이 저장하는 open addressing(선형 탐색) 해시 맵.
+ * 0 키는 빈 슬롯 표시로 쓰므로 별도 필드로 관리합니다. 스레드 안전하지 않으므로 다 채운 뒤 읽기 전용으로 공유해야 합니다.
+ */
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean containsZeroKey;
+    private long zeroKeyValue;
+
+    public LongLongHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, 1) * 2);
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 같은 내용을 가진 독립된 사본을 만듭니다. 읽기 전용으로 공유 중인 맵을 고칠 때 사용합니다.
+     */
+    public LongLongHashMap copy() {
+        LongLongHashMap copy = new LongLongHashMap();
+        copy.keys = keys.clone();
+        copy.values = values.clone();
+        copy.mask = mask;
+        copy.size = size;
+        copy.containsZeroKey = containsZeroKey;
+        copy.zeroKeyValue = zeroKeyValue;
+        return copy;
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return;
+        }
+
+        int index = indexOf(key);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        // 적재율을 1/2 이하로 유지해서 탐색 길이를 짧게 유지
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == EMPTY) {
+            return containsZeroKey ? zeroKeyValue : defaultValue;
+        }
+        int index = indexOf(key);
+        long slot;
+        while ((slot = keys[index]) != EMPTY) {
+            if (slot == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int indexOf(long key) {
+        // 연속된 id가 인접 슬롯에 몰리지 않도록 상위 비트를 섞음
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] previousKeys = keys;
+        long[] previousValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < previousKeys.length; i++) {
+            long key = previousKeys[i];
+            if (key != EMPTY) {
+                int index = indexOf(key);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = previousValues[i];
+            }
+        }
+    }
+
+    private static int tableSizeFor(int minimum) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < minimum) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobItemError;
+import org.example.expert.domain.common.job.JobStatus;
+
+@Getter
+public class JobResponse {
+
+    private final String jobId;
+    private final JobStatus status;
+    private final long total;
+    private final long processed;
+    private final long failed;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String errorMessage;
+    private final List<JobItemError> itemErrors;
+
+    public JobResponse(Job job) {
+        this.jobId = job.getId();
+        this.status = job.getStatus();
+        this.total = job.getTotal();
+        this.processed = job.getProcessed();
+        this.failed = job.getFailed();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.errorMessage = job.getErrorMessage();
+        this.itemErrors = job.getItemErrors();
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.common.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
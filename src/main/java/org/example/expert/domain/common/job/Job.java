@@ -0,0 +1,86 @@
+package org.example.expert.domain.common.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * 백그라운드 작업의 진행 상태. 작업 스레드가 갱신하고 조회 요청 스레드가 읽습니다.
+ */
+@Getter
+public class Job {
+
+    // 항목별 오류는 이 개수까지만 보관하고 나머지는 건수만 셈
+    static final int MAX_ITEM_ERRORS = 1000;
+
+    private final String id;
+    private final String type;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<JobItemError> itemErrors = new ArrayList<>();
+    private volatile JobStatus status = JobStatus.PENDING;
+    // 전체 건수를 모르면 -1
+    private volatile long total = -1;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    public Job(String id, String type) {
+        this.id = id;
+        this.type = type;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public List<JobItemError> getItemErrors() {
+        synchronized (itemErrors) {
+            return List.copyOf(itemErrors);
+        }
+    }
+
+    public void addItemError(JobItemError error) {
+        failed.incrementAndGet();
+        synchronized (itemErrors) {
+            if (itemErrors.size() < MAX_ITEM_ERRORS) {
+                itemErrors.add(error);
+            }
+        }
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public void addProcessed(long count) {
+        processed.addAndGet(count);
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = JobStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.COMPLETED;
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.FAILED;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.common.job;
+
+import lombok.Getter;
+
+/**
+ * 작업 중 처리하지 못한 개별 항목. line은 입력 파일의 줄 번호(1부터), key는 항목을 식별할 값입니다.
+ */
+@Getter
+public class JobItemError {
+
+    private final long line;
+    private final String key;
+    private final String message;
+
+    public JobItemError(long line, String key, String message) {
+        this.line = line;
+        this.key = key;
+        this.message = message;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.common.job;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.trace.TraceContext;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자용 대량 작업을 요청 스레드 밖에서 실행하고 진행 상태를 보관합니다.
+ * 상태는 인스턴스 메모리에만 있으므로 조회는 작업을 시작한 인스턴스로 보내야 합니다.
+ */
+@Slf4j
+@Component
+public class JobRegistry {
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+
+    public JobRegistry(
+            @Value("${app.job.worker-threads:2}") int workerThreads,
+            @Value("${app.job.queue-capacity:100}") int queueCapacity,
+            @Value("${app.job.retention:1h}") Duration retention
+    ) {
+        this.retention = retention;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "admin-job-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Job submit(String type, Consumer<Job> work) {
+        evictFinishedJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), type);
+        jobs.put(job.getId(), job);
+        try {
+            // 작업 로그를 요청한 관리자 API의 trace id로 찾을 수 있도록 MDC를 넘김
+            executor.execute(TraceContext.wrap(() -> run(job, work)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServerException("대기 중인 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job;
+    }
+
+    public Optional<Job> find(String jobId, String type) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.getType().equals(type));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job, Consumer<Job> work) {
+        job.start();
+        try {
+            work.accept(job);
+            job.complete();
+            log.info("[JOB] {} 완료 - id: {}, 처리 건수: {}", job.getType(), job.getId(), job.getProcessed());
+        } catch (RuntimeException e) {
+            log.error("[JOB] {} 실패 - id: {}, 처리 건수: {}", job.getType(), job.getId(), job.getProcessed(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.expert.domain.common.job;
+
+public enum JobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,67 @@
+package org.example.expert.domain.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+
+/**
+ * 2의 거듭제곱 경계를 갖는 고정 버킷 히스토그램. 기록은 락 없이 배열 원소 하나만 증가시킵니다.
+ * 백분위수는 버킷 상한값으로 근사합니다.
+ */
+public class BucketHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    public void record(long value) {
+        long positive = Math.max(value, 0);
+        int bucket = BUCKET_COUNT - Long.numberOfLeadingZeros(positive);
+        buckets.incrementAndGet(Math.min(bucket, BUCKET_COUNT - 1));
+    }
+
+    public Snapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.getAndSet(i, 0);
+            total += counts[i];
+        }
+        return new Snapshot(total, percentile(counts, total, 0.5), percentile(counts, total, 0.99),
+                percentile(counts, total, 1.0));
+    }
+
+    private long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKET_COUNT - 1);
+    }
+
+    private long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1);
+    }
+
+    @Getter
+    public static class Snapshot {
+
+        private final long count;
+        private final long p50;
+        private final long p99;
+        private final long max;
+
+        public Snapshot(long count, long p50, long p99, long max) {
+            this.count = count;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+
+/**
+ * 할일 1건과 담당자를 LEFT JOIN한 결과 한 행. 담당자가 없는 할일은 manager 쪽 값이 모두 null인 행 하나로 조회됩니다.
+ */
+@Getter
+public class TodoManagerRow {
+
+    private final Long ownerId;
+    private final Long managerId;
+    private final Long managerUserId;
+    private final String managerEmail;
+
+    public TodoManagerRow(Long ownerId, Long managerId, Long managerUserId, String managerEmail) {
+        this.ownerId = ownerId;
+        this.managerId = managerId;
+        this.managerUserId = managerUserId;
+        this.managerEmail = managerEmail;
+    }
+
+    public boolean hasManager() {
+        return managerId != null;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBulkSaveRequest {
+
+    @NotEmpty(message = "담당자로 등록할 유저 id를 입력해주세요.")
+    @Size(max = 500, message = "담당자는 한 번에 500명까지 등록할 수 있습니다.")
+    private List<@NotNull Long> managerUserIds;
+}
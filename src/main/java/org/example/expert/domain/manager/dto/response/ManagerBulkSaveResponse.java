@@ -0,0 +1,36 @@
+package org.example.expert.domain.manager.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerAssignmentStatus;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final int assignedCount;
+    private final List<Result> results;
+
+    public ManagerBulkSaveResponse(List<Result> results) {
+        this.assignedCount = (int) results.stream()
+                .filter(result -> result.getStatus() == ManagerAssignmentStatus.ASSIGNED)
+                .count();
+        this.results = results;
+    }
+
+    /**
+     * 요청한 유저 id별 처리 결과. 새로 등록된 경우에만 managerId가 있습니다.
+     */
+    @Getter
+    public static class Result {
+
+        private final Long userId;
+        private final ManagerAssignmentStatus status;
+        private final Long managerId;
+
+        public Result(Long userId, ManagerAssignmentStatus status, Long managerId) {
+            this.userId = userId;
+            this.status = status;
+            this.managerId = managerId;
+        }
+    }
+}
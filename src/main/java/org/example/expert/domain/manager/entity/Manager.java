@@ -9,7 +9,11 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(
+        name = "managers",
+        // 담당 할일 목록은 user_id로 범위를 좁힌 뒤 todo_id만 읽으므로 테이블을 거치지 않는 커버링 인덱스
+        indexes = @Index(name = "idx_managers_user_id_todo_id", columnList = "user_id, todo_id")
+)
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.enums;
+
+public enum ManagerAssignmentStatus {
+    ASSIGNED,
+    ALREADY_MANAGER,
+    USER_NOT_FOUND,
+    OWNER,
+    DUPLICATE_IN_REQUEST
+}
@@ -1,13 +1,22 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.TodoManagerRow;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 할일 존재 여부, 작성자, 담당자 목록을 한 번에 조회합니다. 결과가 비어 있으면 할일이 없는 것입니다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.TodoManagerRow(t.user.id, m.id, u.id, u.email) "
+            + "FROM Todo t LEFT JOIN Manager m ON m.todo = t LEFT JOIN m.user u "
+            + "WHERE t.id = :todoId ORDER BY m.id")
+    List<TodoManagerRow> findTodoManagerRows(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId")
+    int deleteByIdAndTodoId(@Param("managerId") Long managerId, @Param("todoId") Long todoId);
 }
@@ -1,22 +1,32 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.collection.LongHashSet;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.TodoManagerRow;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignmentStatus;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,30 +34,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ManagerService {
 
+    private static final String INSERT_MANAGER_SQL = "insert into managers (todo_id, user_id) values (?, ?)";
+
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoMembershipCache todoMembershipCache;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        TodoMembership membership = todoMembershipCache.get(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!membership.isOwner(user.getId())) {
             throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
-
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+        if (ObjectUtils.nullSafeEquals(user.getId(), managerSaveRequest.getManagerUserId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
+        if (membership.isManager(managerSaveRequest.getManagerUserId())) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
+        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+
+        // 외래 키만 필요하므로 Todo는 조회하지 않고 참조 프록시로 연결
+        Todo todo = todoRepository.getReferenceById(todoId);
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoMembershipCache.invalidate(todoId);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -55,43 +76,123 @@ public class ManagerService {
         );
     }
 
-    @Transactional(readOnly = true)
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest request) {
+        // 작성자 확인과 기존 담당자 중복 확인은 단건 등록과 같은 캐시로 처리
+        TodoMembership membership = todoMembershipCache.get(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!membership.isOwner(authUser.getId())) {
+            throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Long> requestedIds = request.getManagerUserIds();
+        ManagerAssignmentStatus[] statuses = new ManagerAssignmentStatus[requestedIds.size()];
+        LongHashSet seen = new LongHashSet(requestedIds.size());
+        List<Long> candidates = new ArrayList<>(requestedIds.size());
+        for (int i = 0; i < requestedIds.size(); i++) {
+            long userId = requestedIds.get(i);
+            if (!seen.add(userId)) {
+                statuses[i] = ManagerAssignmentStatus.DUPLICATE_IN_REQUEST;
+            } else if (membership.isOwner(userId)) {
+                statuses[i] = ManagerAssignmentStatus.OWNER;
+            } else if (membership.isManager(userId)) {
+                statuses[i] = ManagerAssignmentStatus.ALREADY_MANAGER;
+            } else {
+                candidates.add(userId);
+            }
+        }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+        LongHashSet existingUserIds = new LongHashSet(candidates.size());
+        if (!candidates.isEmpty()) {
+            for (User user : userRepository.findAllById(candidates)) {
+                existingUserIds.add(user.getId());
+            }
+        }
+        List<Long> assignedUserIds = candidates.stream().filter(existingUserIds::contains).toList();
+        long[] managerIds = insertManagers(todoId, assignedUserIds);
+
+        // candidates와 managerIds는 요청 순서를 유지하므로 앞에서부터 차례로 대응시킴
+        List<ManagerBulkSaveResponse.Result> results = new ArrayList<>(requestedIds.size());
+        int assignedIndex = 0;
+        for (int i = 0; i < requestedIds.size(); i++) {
+            Long userId = requestedIds.get(i);
+            if (statuses[i] != null) {
+                results.add(new ManagerBulkSaveResponse.Result(userId, statuses[i], null));
+            } else if (existingUserIds.contains(userId)) {
+                results.add(new ManagerBulkSaveResponse.Result(
+                        userId, ManagerAssignmentStatus.ASSIGNED, managerIds[assignedIndex++]));
+            } else {
+                results.add(new ManagerBulkSaveResponse.Result(userId, ManagerAssignmentStatus.USER_NOT_FOUND, null));
+            }
+        }
+
+        if (managerIds.length > 0) {
+            todoMembershipCache.invalidate(todoId);
+        }
+        return new ManagerBulkSaveResponse(results);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ManagerResponse> getManagers(long todoId) {
+        List<TodoManagerRow> rows = managerRepository.findTodoManagerRows(todoId);
+        if (rows.isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        List<ManagerResponse> dtoList = new ArrayList<>(rows.size());
+        for (TodoManagerRow row : rows) {
+            if (row.hasManager()) {
+                dtoList.add(new ManagerResponse(
+                        row.getManagerId(),
+                        new UserResponse(row.getManagerUserId(), row.getManagerEmail())
+                ));
+            }
         }
         return dtoList;
     }
 
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        Todo todo = todoRepository.findById(todoId)
+        TodoMembership membership = todoMembershipCache.get(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!membership.isOwner(userId)) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+        // 조회 후 삭제 대신 한 번의 DELETE로 처리하고, 실패했을 때만 원인을 구분하기 위해 추가 조회
+        if (managerRepository.deleteByIdAndTodoId(managerId, todoId) == 0) {
+            if (!managerRepository.existsById(managerId)) {
+                throw new InvalidRequestException("Manager not found");
+            }
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
+        todoMembershipCache.invalidate(todoId);
+    }
 
-        managerRepository.delete(manager);
+    // IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 않으므로 JDBC 배치로 한 번에 전송
+    private long[] insertManagers(long todoId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new long[0];
+        }
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_MANAGER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Long userId : userIds) {
+                    ps.setLong(1, todoId);
+                    ps.setLong(2, userId);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                long[] ids = new long[userIds.size()];
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (generatedKeys.next()) {
+                        ids[index++] = generatedKeys.getLong(1);
+                    }
+                }
+                return ids;
+            }
+        });
     }
 }
@@ -0,0 +1,47 @@
+package org.example.expert.domain.manager.service;
+
+import java.util.List;
+import org.example.expert.domain.common.collection.LongHashSet;
+import org.example.expert.domain.manager.dto.TodoManagerRow;
+
+/**
+ * 할일의 작성자와 담당자 유저 id 집합. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 그대로 공유합니다.
+ */
+public class TodoMembership {
+
+    private final long ownerId;
+    private final LongHashSet managerUserIds;
+
+    private TodoMembership(long ownerId, LongHashSet managerUserIds) {
+        this.ownerId = ownerId;
+        this.managerUserIds = managerUserIds;
+    }
+
+    /**
+     * 행이 없으면 할일이 존재하지 않으므로 null을 반환합니다.
+     */
+    public static TodoMembership from(List<TodoManagerRow> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        LongHashSet managerUserIds = new LongHashSet(rows.size());
+        for (TodoManagerRow row : rows) {
+            if (row.hasManager()) {
+                managerUserIds.add(row.getManagerUserId());
+            }
+        }
+        return new TodoMembership(rows.get(0).getOwnerId(), managerUserIds);
+    }
+
+    public boolean isOwner(long userId) {
+        return ownerId == userId;
+    }
+
+    public boolean isManager(long userId) {
+        return managerUserIds.contains(userId);
+    }
+
+    public int managerCount() {
+        return managerUserIds.size();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.manager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.example.expert.domain.common.cache.CacheInvalidation;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 할일별 작성자와 담당자 구성을 인스턴스 메모리에 캐시합니다.
+ * 담당자 추가/삭제 시 무효화하고, 다른 인스턴스에서 바뀐 내용은 TTL이 지나면 반영됩니다.
+ * 권한 판단에 쓰이므로 캐시는 primary에서 읽은 값으로만 채웁니다.
+ */
+@Component
+public class TodoMembershipCache {
+
+    private final ManagerRepository managerRepository;
+    private final Cache<Long, TodoMembership> cache;
+
+    public TodoMembershipCache(
+            ManagerRepository managerRepository,
+            @Value("${app.manager.membership-cache.max-size:10000}") long maxSize,
+            @Value("${app.manager.membership-cache.ttl:5m}") Duration ttl
+    ) {
+        this.managerRepository = managerRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<TodoMembership> get(long todoId) {
+        // 읽기 전용 트랜잭션의 조회는 replica로 가므로 지연된 값이 캐시에 남지 않도록 적재하지 않음
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TodoMembership cached = cache.getIfPresent(todoId);
+            return cached != null ? Optional.of(cached) : Optional.ofNullable(load(todoId));
+        }
+        return Optional.ofNullable(cache.get(todoId, this::load));
+    }
+
+    public void invalidate(long todoId) {
+        CacheInvalidation.invalidateNowAndAfterCommit(cache, todoId);
+    }
+
+    private TodoMembership load(long todoId) {
+        return TodoMembership.from(managerRepository.findTodoManagerRows(todoId));
+    }
+}
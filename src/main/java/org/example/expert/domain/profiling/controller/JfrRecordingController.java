@@ -0,0 +1,41 @@
+package org.example.expert.domain.profiling.controller;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.profiling.dto.response.JfrRecordingResponse;
+import org.example.expert.domain.profiling.service.JfrRecordingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JfrRecordingController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @GetMapping("/admin/jfr/recording")
+    public ResponseEntity<JfrRecordingResponse> getRecording() {
+        return ResponseEntity.ok(jfrRecordingService.status());
+    }
+
+    @PostMapping("/admin/jfr/recording/start")
+    public ResponseEntity<JfrRecordingResponse> startRecording(
+            @RequestParam(defaultValue = "default") String profile,
+            @RequestParam(required = false) Duration maxAge
+    ) {
+        return ResponseEntity.ok(jfrRecordingService.start(profile, maxAge));
+    }
+
+    @PostMapping("/admin/jfr/recording/dump")
+    public ResponseEntity<JfrRecordingResponse> dumpRecording() {
+        return ResponseEntity.ok(jfrRecordingService.dump());
+    }
+
+    @PostMapping("/admin/jfr/recording/stop")
+    public ResponseEntity<JfrRecordingResponse> stopRecording() {
+        return ResponseEntity.ok(jfrRecordingService.stop());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.profiling.dto.response;
+
+import java.time.Instant;
+import lombok.Getter;
+
+@Getter
+public class JfrRecordingResponse {
+
+    private final long id;
+    private final String name;
+    private final String profile;
+    private final String state;
+    private final Instant startTime;
+    // 덤프한 경우에만 값이 있음
+    private final String dumpFile;
+    private final Long dumpSize;
+
+    public JfrRecordingResponse(long id, String name, String profile, String state, Instant startTime,
+                                String dumpFile, Long dumpSize) {
+        this.id = id;
+        this.name = name;
+        this.profile = profile;
+        this.state = state;
+        this.startTime = startTime;
+        this.dumpFile = dumpFile;
+        this.dumpSize = dumpSize;
+    }
+}
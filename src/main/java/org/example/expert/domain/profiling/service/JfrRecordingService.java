@@ -0,0 +1,138 @@
+package org.example.expert.domain.profiling.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.profiling.dto.response.JfrRecordingResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 관리자가 JFR 기록을 시작/덤프/중지합니다. 한 번에 하나의 기록만 관리하며, 덤프 파일은 서버의 app.jfr.directory에 남깁니다.
+ * 기록은 디스크 기반이고 max-age보다 오래된 청크는 버리므로, 켜 둔 채 잊어도 디스크를 계속 차지하지 않습니다.
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+    private static final String RECORDING_NAME = "expert-admin";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final Duration defaultMaxAge;
+
+    private Recording recording;
+    private String profile;
+
+    public JfrRecordingService(
+            @Value("${app.jfr.directory:data/jfr}") Path directory,
+            @Value("${app.jfr.max-age:30m}") Duration defaultMaxAge
+    ) {
+        this.directory = directory;
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    /**
+     * @param profile JDK 기본 설정 이름. default(상시 켜 둘 수 있는 수준) 또는 profile(더 자세하지만 부하가 큼)
+     * @param maxAge  보관할 기록 길이. 없으면 app.jfr.max-age
+     */
+    public synchronized JfrRecordingResponse start(String profile, Duration maxAge) {
+        if (recording != null) {
+            throw new InvalidRequestException("이미 실행 중인 JFR 기록이 있습니다.");
+        }
+        // 이름으로 파일을 읽는 getConfiguration 대신 JDK에 포함된 설정 중에서만 고름
+        Configuration configuration = Configuration.getConfigurations().stream()
+                .filter(candidate -> candidate.getName().equals(profile))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 JFR 프로필입니다: " + profile));
+
+        Recording newRecording = new Recording(configuration);
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge == null ? defaultMaxAge : maxAge);
+        newRecording.start();
+        this.recording = newRecording;
+        this.profile = profile;
+        log.info("[JFR] 기록 시작 - id: {}, 프로필: {}, 보관: {}", newRecording.getId(), profile, newRecording.getMaxAge());
+        return toResponse(newRecording, null);
+    }
+
+    /**
+     * 지금까지의 기록을 파일로 남기고 계속 기록합니다.
+     */
+    public synchronized JfrRecordingResponse dump() {
+        Recording current = requireRecording();
+        return toResponse(current, dumpTo(current));
+    }
+
+    /**
+     * 기록을 멈추고 마지막 내용을 파일로 남긴 뒤 닫습니다.
+     */
+    public synchronized JfrRecordingResponse stop() {
+        Recording current = requireRecording();
+        current.stop();
+        try {
+            return toResponse(current, dumpTo(current));
+        } finally {
+            current.close();
+            recording = null;
+            log.info("[JFR] 기록 중지 - id: {}", current.getId());
+        }
+    }
+
+    public synchronized JfrRecordingResponse status() {
+        return toResponse(requireRecording(), null);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Recording requireRecording() {
+        if (recording == null) {
+            throw new InvalidRequestException("실행 중인 JFR 기록이 없습니다.");
+        }
+        return recording;
+    }
+
+    private Path dumpTo(Recording current) {
+        Path file = directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT)
+                + "-" + current.getId() + ".jfr");
+        try {
+            Files.createDirectories(directory);
+            current.dump(file);
+        } catch (IOException e) {
+            throw new ServerException("JFR 기록을 파일로 남기지 못했습니다: " + e.getMessage());
+        }
+        log.info("[JFR] 기록 덤프 - id: {}, 파일: {}", current.getId(), file);
+        return file;
+    }
+
+    private JfrRecordingResponse toResponse(Recording current, Path dumpFile) {
+        Long dumpSize = null;
+        if (dumpFile != null) {
+            try {
+                dumpSize = Files.size(dumpFile);
+            } catch (IOException e) {
+                log.warn("[JFR] 덤프 파일 크기를 읽지 못했습니다: {}", dumpFile, e);
+            }
+        }
+        RecordingState state = current.getState();
+        return new JfrRecordingResponse(current.getId(), current.getName(), profile, state.name(),
+                current.getStartTime(), dumpFile == null ? null : dumpFile.toString(), dumpSize);
+    }
+}
@@ -1,14 +1,21 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -38,4 +45,30 @@ public class TodoController {
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @GetMapping("/users/me/managed-todos")
+    public ResponseEntity<CursorPageResponse<TodoResponse>> getManagedTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(todoService.getManagedTodos(authUser, cursor, size));
+    }
+
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoUpdateResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        return ResponseEntity.ok(todoService.updateTodo(authUser, todoId, todoUpdateRequest));
+    }
+
+    @GetMapping(value = "/todos/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTodos(@Auth AuthUser authUser, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"");
+        todoService.exportTodos(authUser, response.getOutputStream());
+    }
 }
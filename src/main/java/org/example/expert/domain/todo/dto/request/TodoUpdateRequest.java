@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "제목은 공백일 수 없습니다.")
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "내용은 공백일 수 없습니다.")
+    private String contents;
+
+    @NotNull(message = "버전은 필수입니다.")
+    private Long version;
+
+    @AssertTrue(message = "제목 또는 내용 중 하나는 입력해야 합니다.")
+    private boolean isChangeRequested() {
+        return title != null || contents != null;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoUpdateResponse {
+
+    private final Long id;
+    private final Long version;
+
+    public TodoUpdateResponse(Long id, Long version) {
+        this.id = id;
+        this.version = version;
+    }
+}
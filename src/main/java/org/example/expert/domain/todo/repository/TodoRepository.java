@@ -1,12 +1,19 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -17,4 +24,29 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     @EntityGraph(attributePaths = {"user"})
     @Query("select t from Todo t where t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+
+    // 담당자로 등록된 할일. 같은 할일에 담당자가 중복 등록되어 있어도 한 번만 나오도록 JOIN 대신 IN 서브쿼리(세미조인)를 사용합니다.
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user "
+            + "WHERE t.id IN (SELECT m.todo.id FROM Manager m WHERE m.user.id = :userId) "
+            + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findFirstManagedPageWithUser(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user "
+            + "WHERE t.id IN (SELECT m.todo.id FROM Manager m WHERE m.user.id = :userId) "
+            + "AND (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id)) "
+            + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findNextManagedPageWithUser(@Param("userId") Long userId,
+                                           @Param("modifiedAt") LocalDateTime modifiedAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    // MySQL은 URL에 useCursorFetch=true가 있어야 fetch size 단위로 서버 커서를 사용합니다.
+    // 스트림으로 읽은 엔티티에는 쿼리 단위 캐시 모드가 적용되지 않으므로, 2차 캐시 저장은 호출하는 쪽에서 세션 단위로 끕니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t from Todo t where t.user.id = :userId order by t.id")
+    Stream<Todo> streamAllByUserId(@Param("userId") Long userId);
 }
@@ -1,28 +1,57 @@
 package org.example.expert.domain.todo.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.todo.max-page-size:100}")
+    private int maxPageSize;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -60,7 +89,8 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion()
         ));
     }
 
@@ -78,7 +108,116 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoResponse> getManagedTodos(AuthUser authUser, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        KeysetCursor todoCursor = cursor == null ? null : KeysetCursor.decode(cursor);
+
+        List<Todo> todos = todoCursor == null
+                ? todoRepository.findFirstManagedPageWithUser(authUser.getId(), limit)
+                : todoRepository.findNextManagedPageWithUser(
+                        authUser.getId(), todoCursor.getTimestamp(), todoCursor.getId(), limit);
+
+        boolean hasNext = todos.size() > pageSize;
+        List<Todo> pageContent = hasNext ? todos.subList(0, pageSize) : todos;
+
+        List<TodoResponse> dtoList = new ArrayList<>(pageContent.size());
+        for (Todo todo : pageContent) {
+            dtoList.add(new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt(),
+                    todo.getVersion()
+            ));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(dtoList, nextCursor);
+    }
+
+    @Transactional
+    public TodoUpdateResponse updateTodo(AuthUser authUser, long todoId, TodoUpdateRequest todoUpdateRequest) {
+        // 2차 캐시에 있으면 SQL 없이 읽힘. 벌크 UPDATE와 달리 캐시 영역 전체를 비우지 않고 이 할일만 갱신됨
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("일정을 생성한 유저만 수정할 수 있습니다.");
+        }
+        if (!ObjectUtils.nullSafeEquals(todo.getVersion(), todoUpdateRequest.getVersion())) {
+            throw new ConflictException("다른 사용자가 먼저 일정을 수정했습니다. 최신 내용을 조회한 뒤 다시 시도해주세요.");
+        }
+
+        // null인 필드는 기존 값을 유지
+        todo.update(
+                todoUpdateRequest.getTitle() != null ? todoUpdateRequest.getTitle() : todo.getTitle(),
+                todoUpdateRequest.getContents() != null ? todoUpdateRequest.getContents() : todo.getContents()
         );
+        // UPDATE ... WHERE id = ? AND version = ?로 반영되며, 그 사이 다른 요청이 먼저 수정했다면
+        // ObjectOptimisticLockingFailureException이 발생해 409로 응답
+        todoRepository.flush();
+
+        return new TodoUpdateResponse(todoId, todo.getVersion());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTodos(AuthUser authUser, OutputStream outputStream) throws IOException {
+        UserResponse userResponse = new UserResponse(authUser.getId(), authUser.getEmail());
+        // 값 사이 구분자를 기본값(공백) 대신 줄바꿈으로 두어 한 줄에 하나씩 기록
+        ObjectWriter writer = objectMapper.writerFor(TodoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+
+        // 한 번 읽고 버리는 대량 조회가 2차 캐시의 자주 쓰는 항목을 밀어내지 않도록 이 트랜잭션에서는 캐시에 넣지 않음
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+
+        try (Stream<Todo> todos = todoRepository.streamAllByUserId(authUser.getId());
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             SequenceWriter sequenceWriter = writer.writeValues(generator)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫도록 둡니다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            int count = 0;
+            Iterator<Todo> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                Todo todo = iterator.next();
+                sequenceWriter.write(new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        userResponse,
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt(),
+                        todo.getVersion()
+                ));
+
+                // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 주기적으로 비우고, 버퍼도 함께 내보냄
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    sequenceWriter.flush();
+                }
+            }
+            // 구분자는 값 사이에만 들어가므로 마지막 줄의 끝은 따로 씀
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+            sequenceWriter.flush();
+        }
     }
 }
@@ -1,14 +1,25 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.AdminLog;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.JobResponse;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.AdminUserResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,6 +27,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
+
+    @GetMapping("/admin/users")
+    public ResponseEntity<CursorPageResponse<AdminUserResponse>> searchUsers(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userAdminService.searchUsers(email, role, cursor, size));
+    }
 
     @AdminLog
     @PatchMapping("/admin/users/{userId}")
@@ -24,4 +46,18 @@ public class UserAdminController {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
         return ResponseEntity.noContent().build();
     }
+
+    // 본문을 객체로 읽지 않고 스트림 그대로 임시 파일에 받음
+    @AdminLog
+    @PostMapping(value = "/admin/users/import",
+            consumes = {UserImportFormat.CSV_MEDIA_TYPE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<JobResponse> importUsers(HttpServletRequest request) throws IOException {
+        UserImportFormat format = UserImportFormat.of(request.getContentType());
+        return ResponseEntity.accepted().body(userImportService.startImport(format, request.getInputStream()));
+    }
+
+    @GetMapping("/admin/users/import/{jobId}")
+    public ResponseEntity<JobResponse> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(userImportService.getImportJob(jobId));
+    }
 }
@@ -0,0 +1,45 @@
+package org.example.expert.domain.user.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+/**
+ * 관리자 사용자 검색의 마지막 위치. 이메일 접두어 검색은 (email_normalized, id), 역할 검색은 id만 담습니다.
+ */
+@Getter
+public class UserSearchCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final Long id;
+    private final String emailNormalized;
+
+    public UserSearchCursor(Long id, String emailNormalized) {
+        this.id = id;
+        this.emailNormalized = emailNormalized;
+    }
+
+    public String encode() {
+        // 이메일에는 구분자가 들어갈 수 있으므로 id를 앞에 둠
+        String raw = emailNormalized == null ? String.valueOf(id) : id + DELIMITER + emailNormalized;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                return new UserSearchCursor(Long.parseLong(raw), null);
+            }
+            return new UserSearchCursor(
+                    Long.parseLong(raw.substring(0, delimiterIndex)),
+                    raw.substring(delimiterIndex + 1)
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.user.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+@Getter
+public class AdminUserResponse {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+    private final LocalDateTime createdAt;
+
+    public AdminUserResponse(Long id, String email, UserRole userRole, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+        this.createdAt = createdAt;
+    }
+}
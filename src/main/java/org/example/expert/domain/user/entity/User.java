@@ -3,26 +3,49 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.config.persistence.PersistenceConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.Locale;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(
+        name = "users",
+        // 역할 버전을 다른 인스턴스에 전파할 때 최근 수정된 행만 읽기 위한 인덱스
+        indexes = {
+                @Index(name = "idx_users_modified_at", columnList = "modified_at"),
+                // 관리자 검색: 이메일 접두어는 (이메일, id) 순서로 범위 조회, 역할 필터는 id 순서 그대로 읽기
+                @Index(name = "idx_users_email_normalized_id", columnList = "email_normalized, id"),
+                @Index(name = "idx_users_user_role_id", columnList = "user_role, id")
+        }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PersistenceConfig.USER_CACHE_REGION)
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     @Column(unique = true)
     private String email;
+    // 대소문자 구분 없이 검색하기 위해 소문자로 맞춘 이메일.
+    // 컬럼 추가 전에 가입한 행은 비어 있으므로 UserEmailBackfillService가 채운 뒤에 NOT NULL 제약을 겁니다.
+    private String emailNormalized;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 역할이 바뀔 때마다 증가. 토큰에 담긴 값보다 크면 이전 역할로 발급된 토큰이므로 거부
+    @Column(nullable = false)
+    private long roleVersion;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
+        this.emailNormalized = normalizeEmail(email);
         this.password = password;
         this.userRole = userRole;
     }
@@ -33,6 +56,10 @@ public class User extends Timestamped {
         this.userRole = userRole;
     }
 
+    public static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public static User fromAuthUser(AuthUser authUser) {
         return new User(authUser.getId(), authUser.getEmail(), authUser.getUserRole());
     }
@@ -42,6 +69,9 @@ public class User extends Timestamped {
     }
 
     public void updateRole(UserRole userRole) {
+        if (this.userRole != userRole) {
+            this.roleVersion++;
+        }
         this.userRole = userRole;
     }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum UserImportFormat {
+    CSV, NDJSON;
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    public static UserImportFormat of(String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("지원하지 않는 파일 형식입니다.");
+        }
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE))) {
+            return CSV;
+        }
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return NDJSON;
+        }
+        throw new InvalidRequestException("지원하지 않는 파일 형식입니다.");
+    }
+}
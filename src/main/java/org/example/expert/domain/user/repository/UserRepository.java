@@ -1,11 +1,34 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 관리자 검색. 역할 조건은 항상 IN으로 묶어서 (user_role, id) 인덱스를 id 순서대로 읽습니다.
+    @Query("SELECT u FROM User u WHERE u.userRole IN :roles AND u.id > :afterId ORDER BY u.id")
+    List<User> findPageByRoles(@Param("roles") Collection<UserRole> roles,
+                               @Param("afterId") Long afterId,
+                               Limit limit);
+
+    // 접두어는 앞쪽이 고정된 LIKE 패턴만 받으므로 (email_normalized, id) 인덱스를 범위 조회하면서
+    // 정렬 없이 인덱스 순서대로 읽습니다. 첫 페이지는 afterEmail에 빈 문자열을 넘깁니다.
+    @Query("SELECT u FROM User u WHERE u.emailNormalized LIKE :prefixPattern ESCAPE '!' AND u.userRole IN :roles "
+            + "AND (u.emailNormalized > :afterEmail OR (u.emailNormalized = :afterEmail AND u.id > :afterId)) "
+            + "ORDER BY u.emailNormalized, u.id")
+    List<User> findPageByEmailPrefix(@Param("prefixPattern") String prefixPattern,
+                                     @Param("roles") Collection<UserRole> roles,
+                                     @Param("afterEmail") String afterEmail,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
 }
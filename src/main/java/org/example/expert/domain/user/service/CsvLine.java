@@ -0,0 +1,47 @@
+package org.example.expert.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄을 필드로 나눕니다. 큰따옴표로 감싼 필드 안의 쉼표와 두 번 쓴 큰따옴표("")를 처리하며,
+ * 필드 안의 줄바꿈은 지원하지 않습니다.
+ */
+final class CsvLine {
+
+    private CsvLine() {
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
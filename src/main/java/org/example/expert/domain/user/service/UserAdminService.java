@@ -1,21 +1,70 @@
 package org.example.expert.domain.user.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.security.RoleVersionRegistry;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSearchCursor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.AdminUserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char LIKE_ESCAPE = '!';
+
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final RoleVersionRegistry roleVersionRegistry;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AdminUserResponse> searchUsers(String emailPrefix, String role, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        UserSearchCursor after = cursor == null ? null : UserSearchCursor.decode(cursor);
+        long afterId = after == null ? 0L : after.getId();
+        List<UserRole> roles = role == null ? List.of(UserRole.values()) : List.of(UserRole.of(role));
+        boolean byEmail = StringUtils.hasText(emailPrefix);
+
+        List<User> users;
+        if (byEmail) {
+            if (after != null && after.getEmailNormalized() == null) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            String afterEmail = after == null ? "" : after.getEmailNormalized();
+            users = userRepository.findPageByEmailPrefix(toPrefixPattern(emailPrefix), roles, afterEmail, afterId, limit);
+        } else {
+            users = userRepository.findPageByRoles(roles, afterId, limit);
+        }
+
+        boolean hasNext = users.size() > pageSize;
+        List<User> pageContent = hasNext ? users.subList(0, pageSize) : users;
+
+        List<AdminUserResponse> dtoList = new ArrayList<>(pageContent.size());
+        for (User user : pageContent) {
+            dtoList.add(new AdminUserResponse(user.getId(), user.getEmail(), user.getUserRole(), user.getCreatedAt()));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            User last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new UserSearchCursor(last.getId(), byEmail ? last.getEmailNormalized() : null).encode();
+        }
+        return new CursorPageResponse<>(dtoList, nextCursor);
+    }
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
@@ -26,8 +75,24 @@ public class UserAdminService {
         UserRole oldRole = user.getUserRole();
 
         user.updateRole(newRole);
+        userProfileCache.invalidate(userId);
+        roleVersionRegistry.update(userId, user.getRoleVersion());
 
         log.info("사용자 역할 변경 완료 - 사용자 ID: {}, 이전 역할: {}, 새 역할: {}",
                 userId, oldRole, newRole);
     }
+
+    // 입력에 섞인 와일드카드가 패턴으로 해석되지 않도록 이스케이프하고 뒤에만 %를 붙임
+    static String toPrefixPattern(String emailPrefix) {
+        String normalized = User.normalizeEmail(emailPrefix);
+        StringBuilder pattern = new StringBuilder(normalized.length() + 1);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
 }
@@ -0,0 +1,102 @@
+package org.example.expert.domain.user.service;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * email_normalized 컬럼이 추가되기 전에 가입한 사용자의 값을 채웁니다.
+ * 시작할 때마다 백그라운드 작업으로 비어 있는 행만 찾아 처리하므로, 모두 채워진 뒤에는 빈 조회 한 번으로 끝납니다.
+ * 값이 채워지기 전까지 해당 사용자는 관리자 이메일 검색에 나오지 않습니다.
+ */
+@Slf4j
+@Service
+public class UserEmailBackfillService {
+
+    static final String BACKFILL_JOB_TYPE = "USER_EMAIL_BACKFILL";
+
+    private static final String SELECT_SQL =
+            "select id, email from users where email_normalized is null and id > ? order by id limit ?";
+    private static final String UPDATE_SQL = "update users set email_normalized = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRegistry jobRegistry;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public UserEmailBackfillService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            JobRegistry jobRegistry,
+            @Value("${app.user.email-backfill.enabled:true}") boolean enabled,
+            @Value("${app.user.email-backfill.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jobRegistry = jobRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (enabled) {
+            jobRegistry.submit(BACKFILL_JOB_TYPE, this::backfill);
+        }
+    }
+
+    void backfill(Job job) {
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            // 청크마다 커밋해서 잠금 유지 시간을 제한
+            List<UserEmail> batch = transactionTemplate.execute(status -> fillBatch(cursor));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            job.addProcessed(batch.size());
+            afterId = batch.get(batch.size() - 1).id;
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (job.getProcessed() > 0) {
+            log.info("[USER_EMAIL_BACKFILL] 정규화 이메일을 채운 사용자 수: {}", job.getProcessed());
+        }
+    }
+
+    private List<UserEmail> fillBatch(long afterId) {
+        List<UserEmail> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new UserEmail(rs.getLong("id"), rs.getString("email")), afterId, batchSize);
+        // 이메일이 없는 행은 검색 대상이 아니므로 건너뜀
+        List<UserEmail> filled = rows.stream().filter(row -> row.email != null).toList();
+        if (!filled.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, filled, filled.size(), (PreparedStatement ps, UserEmail row) -> {
+                ps.setString(1, User.normalizeEmail(row.email));
+                ps.setLong(2, row.id);
+            });
+        }
+        return rows;
+    }
+
+    private static class UserEmail {
+
+        private final long id;
+        private final String email;
+
+        private UserEmail(long id, String email) {
+            this.id = id;
+            this.email = email;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.security.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.dto.JobResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobItemError;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 관리자가 올린 CSV/NDJSON 파일로 사용자를 일괄 가입시킵니다.
+ * 업로드는 요청 스레드에서 임시 파일로 받아두고, 검증/해시/INSERT는 백그라운드 작업에서 청크 단위로 처리합니다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    static final String IMPORT_JOB_TYPE = "USER_IMPORT";
+
+    private static final String EXISTING_EMAILS_SQL = "select email from users where email in (:emails)";
+    private static final String INSERT_SQL = "insert into users "
+            + "(email, email_normalized, password, user_role, role_version, created_at, modified_at) "
+            + "values (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobRegistry jobRegistry;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+    private final long maxUploadBytes;
+
+    public UserImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            JobRegistry jobRegistry,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${app.user.import.hash-parallelism:4}") int hashParallelism,
+            @Value("${app.user.import.chunk-size:1000}") int chunkSize,
+            @Value("${app.user.import.max-upload-size:100MB}") DataSize maxUploadSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.jobRegistry = jobRegistry;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        // 비밀번호 해시는 CPU를 많이 쓰므로 요청 처리 스레드와 공용 풀을 잡아먹지 않도록 전용 풀로 제한
+        this.hashPool = new ForkJoinPool(hashParallelism);
+        this.chunkSize = chunkSize;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    public JobResponse startImport(UserImportFormat format, InputStream inputStream) {
+        Path file = spool(inputStream);
+        try {
+            Job job = jobRegistry.submit(IMPORT_JOB_TYPE, running -> {
+                try {
+                    importUsers(running, format, file);
+                } finally {
+                    deleteQuietly(file);
+                }
+            });
+            return new JobResponse(job);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    public JobResponse getImportJob(String jobId) {
+        return jobRegistry.find(jobId, IMPORT_JOB_TYPE)
+                .map(JobResponse::new)
+                .orElseThrow(() -> new InvalidRequestException("Job not found"));
+    }
+
+    void importUsers(Job job, UserImportFormat format, Path file) {
+        job.setTotal(countRows(format, file));
+
+        Set<String> seenEmails = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long lineNumber = 0;
+            int[] columns = null;
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == UserImportFormat.CSV && columns == null) {
+                    columns = readCsvHeader(line);
+                    continue;
+                }
+
+                ImportRow row = parse(job, format, columns, lineNumber, line);
+                if (row == null) {
+                    job.addProcessed(1);
+                    continue;
+                }
+                if (!seenEmails.add(row.email)) {
+                    job.addItemError(new JobItemError(lineNumber, row.email, "파일 안에서 중복된 이메일입니다."));
+                    job.addProcessed(1);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("[USER_IMPORT] 완료 - 처리: {}, 실패: {}", job.getProcessed(), job.getFailed());
+    }
+
+    private void importChunk(Job job, List<ImportRow> chunk) {
+        Set<String> existingEmails = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                EXISTING_EMAILS_SQL, Map.of("emails", chunk.stream().map(row -> row.email).toList()), String.class));
+
+        List<ImportRow> accepted = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingEmails.contains(row.email)) {
+                job.addItemError(new JobItemError(row.line, row.email, "이미 존재하는 이메일입니다."));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        hashPasswords(accepted);
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(accepted));
+        } catch (DuplicateKeyException e) {
+            // 확인 이후 다른 경로로 같은 이메일이 가입된 경우. 어느 행인지 가리기 위해 한 건씩 다시 저장
+            for (ImportRow row : accepted) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(row)));
+                } catch (DuplicateKeyException duplicate) {
+                    job.addItemError(new JobItemError(row.line, row.email, "이미 존재하는 이메일입니다."));
+                }
+            }
+        }
+        job.addProcessed(chunk.size());
+    }
+
+    private void hashPasswords(List<ImportRow> rows) {
+        try {
+            hashPool.submit(() -> rows.parallelStream()
+                    .forEach(row -> row.encodedPassword = passwordEncoder.encode(row.password))).get();
+        } catch (ExecutionException e) {
+            throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("사용자 가져오기가 중단되었습니다.");
+        }
+    }
+
+    private void insertBatch(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                for (ImportRow row : rows) {
+                    ps.setString(1, row.email);
+                    ps.setString(2, User.normalizeEmail(row.email));
+                    ps.setString(3, row.encodedPassword);
+                    ps.setString(4, row.userRole.name());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    private ImportRow parse(Job job, UserImportFormat format, int[] columns, long lineNumber, String line) {
+        SignupRequest request;
+        try {
+            request = format == UserImportFormat.CSV
+                    ? toSignupRequest(columns, CsvLine.split(line))
+                    : objectMapper.readValue(line, SignupRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            request = null;
+        }
+        // NDJSON 줄이 JSON 리터럴 null이면 예외 없이 null로 읽히므로 읽을 수 없는 행과 같이 처리
+        if (request == null) {
+            job.addItemError(new JobItemError(lineNumber, null, "행을 읽을 수 없습니다."));
+            return null;
+        }
+
+        // 가입 API와 같은 규칙으로 검증
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            job.addItemError(new JobItemError(lineNumber, request.getEmail(), violations.iterator().next().getMessage()));
+            return null;
+        }
+        return new ImportRow(lineNumber, request.getEmail(), request.getPassword(), UserRole.of(request.getUserRole()));
+    }
+
+    private static int[] readCsvHeader(String line) {
+        List<String> header = CsvLine.split(line);
+        int[] columns = {header.indexOf("email"), header.indexOf("password"), header.indexOf("userRole")};
+        for (int column : columns) {
+            if (column < 0) {
+                throw new InvalidRequestException("CSV 헤더에는 email, password, userRole 열이 있어야 합니다.");
+            }
+        }
+        return columns;
+    }
+
+    private static SignupRequest toSignupRequest(int[] columns, List<String> fields) {
+        if (fields.size() <= Math.max(columns[0], Math.max(columns[1], columns[2]))) {
+            throw new IllegalArgumentException("missing columns");
+        }
+        return new SignupRequest(fields.get(columns[0]), fields.get(columns[1]), fields.get(columns[2]));
+    }
+
+    private long countRows(UserImportFormat format, Path file) {
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            long rows = lines.filter(line -> !line.isBlank()).count();
+            return format == UserImportFormat.CSV ? Math.max(rows - 1, 0) : rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path spool(InputStream inputStream) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("user-import-", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[8192];
+                long written = 0;
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    written += read;
+                    if (written > maxUploadBytes) {
+                        throw new InvalidRequestException("업로드 파일이 너무 큽니다.");
+                    }
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new ServerException("업로드 파일을 저장하지 못했습니다.");
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static class ImportRow {
+
+        private final long line;
+        private final String email;
+        private final String password;
+        private final UserRole userRole;
+        private String encodedPassword;
+
+        private ImportRow(long line, String email, String password, UserRole userRole) {
+            this.line = line;
+            this.email = email;
+            this.password = password;
+            this.userRole = userRole;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.example.expert.domain.common.cache.CacheInvalidation;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 프로필 응답을 인스턴스 메모리에 캐시합니다.
+ * 비밀번호/역할 변경과 가입 시 무효화하고, 다른 인스턴스에서 바뀐 내용은 TTL이 지나면 반영됩니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserResponse> cache;
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            @Value("${app.user.profile-cache.max-size:50000}") long maxSize,
+            @Value("${app.user.profile-cache.ttl:10m}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<UserResponse> get(long userId) {
+        return Optional.ofNullable(cache.get(userId, id ->
+                userRepository.findById(id).map(UserProfileCache::toResponse).orElse(null)));
+    }
+
+    /**
+     * 캐시에 없는 id만 한 번의 IN 조회로 읽어 채웁니다. 존재하지 않는 id는 결과에서 빠집니다.
+     */
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, missingIds -> {
+            Map<Long, UserResponse> loaded = new HashMap<>();
+            for (User user : userRepository.findAllById(Set.copyOf(missingIds))) {
+                loaded.put(user.getId(), toResponse(user));
+            }
+            return loaded;
+        });
+    }
+
+    public void invalidate(long userId) {
+        CacheInvalidation.invalidateNowAndAfterCommit(cache, userId);
+    }
+
+    private static UserResponse toResponse(User user) {
+        return new UserResponse(user.getId(), user.getEmail());
+    }
+}
@@ -1,5 +1,10 @@
 package org.example.expert.domain.user.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.security.PasswordEncoder;
@@ -16,13 +21,36 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("사용자를 찾을 수 없습니다."));
-        return new UserResponse(user.getId(), user.getEmail());
+        return userProfileCache.get(userId).orElseThrow(() -> new InvalidRequestException("사용자를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 요청한 순서대로 반환하며, 중복된 id는 한 번만, 존재하지 않는 id는 제외합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> getUsers(List<Long> userIds) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(userIds);
+        if (uniqueIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BATCH_SIZE + "명입니다.");
+        }
+
+        Map<Long, UserResponse> found = userProfileCache.getAll(uniqueIds);
+        List<UserResponse> users = new ArrayList<>(found.size());
+        for (Long userId : uniqueIds) {
+            UserResponse user = found.get(userId);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
     }
 
     @Transactional
@@ -43,6 +71,7 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        userProfileCache.invalidate(userId);
         log.info("비밀번호 변경 완료 - 사용자 ID: {}", userId);
     }
 }
@@ -0,0 +1,65 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_URL = "https://f-api.github.io/f-api/weather.json";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockRestServiceServer server;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        weatherClient = new WeatherClient(new RestTemplateBuilder(customizer), meterRegistry);
+        server = customizer.getServer();
+    }
+
+    @Test
+    @DisplayName("오늘 날씨를 찾으면 SUCCESS로 호출 시간 기록")
+    void getTodayWeather_success() {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        server.expect(requestTo(WEATHER_URL))
+                .andRespond(withSuccess("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]",
+                        MediaType.APPLICATION_JSON));
+
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(timerCount("SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("날씨 API 오류는 IO_ERROR, 응답에 오늘 날씨가 없으면 INVALID_RESPONSE로 기록")
+    void getTodayWeather_failures() {
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        server.expect(requestTo(WEATHER_URL)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        assertThrows(HttpServerErrorException.class, () -> weatherClient.getTodayWeather());
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        assertThat(timerCount("IO_ERROR")).isEqualTo(1);
+        assertThat(timerCount("INVALID_RESPONSE")).isEqualTo(1);
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry.get("weather.client.requests").tag("outcome", outcome).timer().count();
+    }
+}
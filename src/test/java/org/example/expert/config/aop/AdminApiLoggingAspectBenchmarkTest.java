@@ -0,0 +1,139 @@
+package org.example.expert.config.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.example.expert.config.trace.TraceIdGenerator;
+import org.example.expert.domain.audit.store.AuditLogStore;
+import org.example.expert.domain.common.annotation.AdminLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 관리자 API 로깅 AOP가 요청 스레드에 더하는 호출당 비용을 잽니다. 기본 테스트에서는 빠지며 {@code gradle benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class AdminApiLoggingAspectBenchmarkTest {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 100_000;
+    // 측정 중에는 소비 스레드를 돌리지 않으므로 모든 이벤트(호출당 2건)가 들어갈 크기
+    private static final int BUFFER_SIZE = 1 << 19;
+    private static final Logger log = (Logger) LoggerFactory.getLogger(AdminApiLoggingAspectBenchmarkTest.class);
+
+    private final Logger pipelineLogger = (Logger) LoggerFactory.getLogger(AdminLogPipeline.class);
+    private Level previousLevel;
+    private AdminLogPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        // 소비 스레드의 출력 비용이 측정에 섞이지 않도록 로그는 끔
+        previousLevel = pipelineLogger.getLevel();
+        pipelineLogger.setLevel(Level.OFF);
+        AuditLogStore disabledStore = new AuditLogStore(false, Path.of("unused"), DataSize.ofMegabytes(1),
+                Duration.ofDays(1), Duration.ofSeconds(1), DataSize.ofKilobytes(1));
+        // 요청 스레드 쪽 비용만 재도록 소비 스레드는 측정이 끝난 뒤에 시작
+        pipeline = new AdminLogPipeline(new ObjectMapper(), disabledStore, BUFFER_SIZE,
+                AdminLogPipeline.OverflowPolicy.DROP, Duration.ofMillis(1));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("PATCH", "/admin/users/1")));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        RequestContextHolder.resetRequestAttributes();
+        pipeline.start();
+        pipeline.stop();
+        pipelineLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("AOP 적용 전후 호출당 소요 시간 비교")
+    void aspectOverheadPerCall() {
+        SampleController target = new SampleController();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AdminApiLoggingAspect(pipeline, new AdminLogMetadataRegistry(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class))));
+        SampleController proxy = proxyFactory.getProxy();
+        Map<String, String> body = Map.of("role", "ADMIN");
+
+        double directNanos = measure(() -> target.changeRole(1L, body));
+        double proxiedNanos = measure(() -> proxy.changeRole(1L, body));
+
+        log.info("[BENCHMARK] AdminApiLoggingAspect - 직접 호출: {} ns/op, AOP 적용: {} ns/op, 추가 비용: {} ns/op",
+                format(directNanos), format(proxiedNanos), format(proxiedNanos - directNanos));
+        assertThat(pipeline.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("trace id 생성과 본문 파라미터 조회: 요청마다 리플렉션 + UUID 방식과 미리 계산한 메타데이터 방식 비교")
+    void traceIdAndBodyLookup() throws NoSuchMethodException {
+        Method method = SampleController.class.getMethod("changeRole", Long.class, Map.class);
+        AdminLogMetadataRegistry registry = new AdminLogMetadataRegistry(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class));
+        Object[] args = {1L, Map.of("role", "ADMIN")};
+        Object[] sink = new Object[2];
+
+        double reflectiveNanos = measure(() -> {
+            sink[0] = UUID.randomUUID().toString();
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isAnnotationPresent(RequestBody.class)) {
+                    sink[1] = args[i];
+                }
+            }
+        });
+        double precomputedNanos = measure(() -> {
+            sink[0] = TraceIdGenerator.newTraceId();
+            sink[1] = registry.get(method).getRequestBody(args);
+        });
+
+        log.info("[BENCHMARK] trace id + 본문 조회 - 리플렉션/UUID: {} ns/op, 메타데이터/ThreadLocalRandom: {} ns/op",
+                format(reflectiveNanos), format(precomputedNanos));
+        assertThat(sink[1]).isSameAs(args[1]);
+    }
+
+    private static double measure(Runnable call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_CALLS;
+    }
+
+    private static String format(double nanos) {
+        return String.format("%.1f", nanos);
+    }
+
+    static class SampleController {
+
+        @AdminLog
+        public String changeRole(Long userId, @RequestBody Map<String, String> request) {
+            return request.get("role");
+        }
+    }
+}
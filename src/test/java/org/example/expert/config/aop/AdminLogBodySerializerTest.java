@@ -0,0 +1,50 @@
+package org.example.expert.config.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdminLogBodySerializerTest {
+
+    private final AdminLogBodySerializer serializer = new AdminLogBodySerializer(new ObjectMapper());
+
+    @Test
+    @DisplayName("한도 이내의 본문은 그대로 직렬화")
+    void serialize_withinLimit() throws IOException {
+        AdminLogBodySerializer.Result result = serializer.serialize(Map.of("role", "ADMIN"), metadata(Set.of(), 100));
+
+        assertThat(result.getJson()).isEqualTo("{\"role\":\"ADMIN\"}");
+        assertThat(result.isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 본문은 문자 경계에서 잘라 표시")
+    void serialize_overLimit_truncates() throws IOException {
+        String contents = "가".repeat(100_000);
+
+        AdminLogBodySerializer.Result result = serializer.serialize(Map.of("contents", contents), metadata(Set.of(), 20));
+
+        assertThat(result.isTruncated()).isTrue();
+        assertThat(result.getJson()).isEqualTo("{\"contents\":\"가가" + AdminLogBodySerializer.TRUNCATED_SUFFIX);
+    }
+
+    @Test
+    @DisplayName("제외 필드는 중첩된 객체와 배열 안에서도 빠짐")
+    void serialize_redactsNestedFields() throws IOException {
+        Map<String, Object> body = Map.of("users", List.of(Map.of("email", "a@test.com", "password", "secret")));
+
+        AdminLogBodySerializer.Result result = serializer.serialize(body, metadata(Set.of("password"), 1000));
+
+        assertThat(result.getJson()).isEqualTo("{\"users\":[{\"email\":\"a@test.com\"}]}");
+    }
+
+    private static AdminLogMetadata metadata(Set<String> redactedFields, int maxBodyBytes) {
+        return new AdminLogMetadata(-1, redactedFields, maxBodyBytes);
+    }
+}
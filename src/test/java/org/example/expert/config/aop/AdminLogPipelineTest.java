@@ -0,0 +1,86 @@
+package org.example.expert.config.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.example.expert.domain.audit.store.AuditLogStore;
+import org.example.expert.domain.audit.store.AuditQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class AdminLogPipelineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("DROP 정책은 버퍼가 가득 차면 기다리지 않고 버린 건수를 셈")
+    void publish_dropPolicy_countsDropped() {
+        AdminLogPipeline pipeline = new AdminLogPipeline(
+                objectMapper, auditLogStore(false), 2, AdminLogPipeline.OverflowPolicy.DROP, Duration.ofMillis(1));
+
+        assertThat(pipeline.publish(event())).isTrue();
+        assertThat(pipeline.publish(event())).isTrue();
+        assertThat(pipeline.publish(event())).isFalse();
+
+        assertThat(pipeline.getPublishedCount()).isEqualTo(2);
+        assertThat(pipeline.getDroppedCount()).isEqualTo(1);
+        assertThat(pipeline.getOccupancy()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 로그를 모두 기록하고 감사 로그 저장소에도 남김")
+    void stop_drainsBuffer() throws InterruptedException, IOException {
+        AuditLogStore auditLogStore = auditLogStore(true);
+        auditLogStore.start();
+        AdminLogPipeline pipeline = new AdminLogPipeline(
+                objectMapper, auditLogStore, 4, AdminLogPipeline.OverflowPolicy.BLOCK, Duration.ofMillis(1));
+        pipeline.start();
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(pipeline.publish(event())).isTrue();
+        }
+        pipeline.stop();
+
+        assertThat(pipeline.getOccupancy()).isZero();
+        assertThat(pipeline.getPublishedCount()).isEqualTo(20);
+        assertThat(pipeline.getDroppedCount()).isZero();
+        assertThat(auditLogStore.search(new AuditQuery(0, Long.MAX_VALUE, 1L, null, null, 100))).hasSize(20);
+        auditLogStore.stop();
+    }
+
+    @Test
+    @DisplayName("본문은 캡처 시점에 직렬화되어 이후 원본 객체가 바뀌어도 기록 내용이 바뀌지 않음")
+    void captureBody_isIndependentOfLaterMutation() {
+        AdminLogPipeline pipeline = new AdminLogPipeline(
+                objectMapper, auditLogStore(false), 2, AdminLogPipeline.OverflowPolicy.DROP, Duration.ofMillis(1));
+        Map<String, String> body = new HashMap<>(Map.of("role", "ADMIN"));
+
+        AdminLogBodySerializer.Result captured = pipeline.captureBody(AdminLogEvent.Phase.REQUEST,
+                "PATCH", "/admin/users/1", 1L, body, AdminLogMetadata.DEFAULT);
+        body.put("role", "USER");
+
+        assertThat(captured.getJson()).isEqualTo("{\"role\":\"ADMIN\"}");
+        assertThat(captured.isTruncated()).isFalse();
+    }
+
+    private AuditLogStore auditLogStore(boolean enabled) {
+        return new AuditLogStore(enabled, tempDir, DataSize.ofMegabytes(1), Duration.ofDays(1),
+                Duration.ofSeconds(1), DataSize.ofKilobytes(1));
+    }
+
+    private static AdminLogEvent event() {
+        return new AdminLogEvent(AdminLogEvent.Phase.RESPONSE, "trace", LocalDateTime.now(),
+                "POST", "/admin/test", 1L, null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.config.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdminLogRingBufferTest {
+
+    @Test
+    @DisplayName("가득 차면 offer가 실패하고, 꺼낸 만큼 다시 넣을 수 있음")
+    void offer_failsWhenFull() {
+        AdminLogRingBuffer buffer = new AdminLogRingBuffer(2);
+
+        assertThat(buffer.offer(event("1"))).isTrue();
+        assertThat(buffer.offer(event("2"))).isTrue();
+        assertThat(buffer.offer(event("3"))).isFalse();
+        assertThat(buffer.size()).isEqualTo(2);
+
+        assertThat(buffer.poll().getTraceId()).isEqualTo("1");
+        assertThat(buffer.offer(event("4"))).isTrue();
+        assertThat(buffer.poll().getTraceId()).isEqualTo("2");
+        assertThat(buffer.poll().getTraceId()).isEqualTo("4");
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 모든 이벤트를 정확히 한 번씩 꺼냄")
+    void offer_concurrentProducers() throws InterruptedException {
+        AdminLogRingBuffer buffer = new AdminLogRingBuffer(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    AdminLogEvent event = event(producer + "-" + i);
+                    while (!buffer.offer(event)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        Set<String> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            AdminLogEvent event = buffer.poll();
+            if (event != null) {
+                assertThat(received.add(event.getTraceId())).isTrue();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+
+    private static AdminLogEvent event(String traceId) {
+        return new AdminLogEvent(AdminLogEvent.Phase.REQUEST, traceId, LocalDateTime.now(),
+                "POST", "/admin/test", 1L, null, null);
+    }
+}
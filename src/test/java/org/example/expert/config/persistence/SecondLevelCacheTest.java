@@ -0,0 +1,181 @@
+package org.example.expert.config.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * User/Todo 2차 캐시가 실제로 SQL을 줄이는지 Hibernate 통계로 확인합니다.
+ * 2차 캐시는 커밋 시점에 채워지고 갱신되므로 테스트 트랜잭션 대신 단계마다 트랜잭션을 커밋합니다.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "app.jpa.statistics-enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoService todoService;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long userId;
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = transactionTemplate.execute(status ->
+                userRepository.save(new User("cache@test.com", "password", UserRole.USER)));
+        Todo todo = transactionTemplate.execute(status ->
+                todoRepository.save(new Todo("title", "contents", "Sunny", user)));
+        userId = user.getId();
+        todoId = todo.getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            managerRepository.deleteAllInBatch();
+            todoRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("처음 조회한 뒤 다른 트랜잭션의 findById는 SQL 없이 캐시에서 읽음")
+    void findById_secondLookupIssuesNoStatement() {
+        assertThat(countStatements(() -> userRepository.findById(userId))).isEqualTo(1);
+        assertThat(countStatements(() -> todoRepository.findById(todoId))).isEqualTo(1);
+
+        assertThat(countStatements(() -> userRepository.findById(userId))).isZero();
+        assertThat(countStatements(() -> todoRepository.findById(todoId))).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("역할을 바꾸면 커밋과 함께 캐시도 갱신되어 이후 조회에 바로 보임")
+    void updateRole_visibleThroughCache() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().updateRole(UserRole.ADMIN));
+
+        statistics.clear();
+        User user = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(user.getUserRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(user.getRoleVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("할일 내보내기는 할일을 2차 캐시에 넣지 않음")
+    void exportTodos_doesNotPopulateCache() throws Exception {
+        User user = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                todoRepository.save(new Todo("export " + i, "contents", "Sunny", user));
+            }
+        });
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoService.exportTodos(new AuthUser(userId, "cache@test.com", UserRole.USER), outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).lines()).hasSize(4);
+        assertThat(statistics.getDomainDataRegionStatistics(PersistenceConfig.TODO_CACHE_REGION).getPutCount())
+                .isZero();
+        assertThat(entityManagerFactory.getCache().contains(Todo.class, todoId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("할일 수정은 수정한 할일만 캐시에서 갱신하고 다른 할일의 캐시는 그대로 둠")
+    void updateTodo_keepsOtherTodosCached() {
+        User user = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+        Long otherTodoId = transactionTemplate.execute(status ->
+                todoRepository.save(new Todo("other", "contents", "Sunny", user)).getId());
+        transactionTemplate.executeWithoutResult(status -> todoRepository.findById(otherTodoId).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            todoRepository.findById(todoId).orElseThrow().update("new title", "contents");
+            todoRepository.flush();
+        });
+
+        assertThat(countStatements(() -> todoRepository.findById(otherTodoId))).isZero();
+        Todo updated = transactionTemplate.execute(status -> todoRepository.findById(todoId).orElseThrow());
+        assertThat(updated.getTitle()).isEqualTo("new title");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 트랜잭션이 먼저 수정했으면 flush 시 낙관적 잠금 예외 발생")
+    void updateTodo_concurrentModificationFails() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = todoRepository.findById(todoId).orElseThrow();
+            requiresNew.executeWithoutResult(inner -> {
+                todoRepository.findById(todoId).orElseThrow().update("first", "contents");
+                todoRepository.flush();
+            });
+            todo.update("second", "contents");
+            todoRepository.flush();
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    private long countStatements(Runnable runnable) {
+        // 호출마다 통계를 비우므로 적중 수도 마지막 호출 한 번의 값
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> runnable.run());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.expert.config.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentArchiveService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamHub;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.manager.service.TodoMembershipCache;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 쓰기 경로가 실행하는 SQL 문 수를 Hibernate 통계로 고정합니다.
+ * 2차 캐시를 비운 상태에서 측정하므로 캐시 적중 여부와 관계없이 최악의 경우를 검증합니다.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, CommentService.class, CommentStreamHub.class, CommentArchiveService.class,
+        JobRegistry.class, ManagerService.class, TodoMembershipCache.class})
+@TestPropertySource(properties = "app.jpa.statistics-enabled=true")
+class WritePathStatementCountTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private TodoMembershipCache todoMembershipCache;
+
+    private Statistics statistics;
+    private User owner;
+    private User managerUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = testEntityManager.persist(new User("owner@test.com", "password", UserRole.USER));
+        managerUser = testEntityManager.persist(new User("manager@test.com", "password", UserRole.USER));
+        todo = testEntityManager.persist(new Todo("title", "contents", "Sunny", owner));
+        // 테스트마다 롤백되어 id가 재사용될 수 있으므로 이전 테스트의 캐시를 비움
+        todoMembershipCache.invalidate(todo.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 등록은 할일 존재 확인, INSERT 2회")
+    void saveComment() {
+        long count = countStatements(() -> commentService.saveComment(
+                authUser(owner), todo.getId(), new CommentSaveRequest("contents")));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 할일에 댓글 등록 시 존재 확인 1회 후 예외")
+    void saveComment_todoNotFound() {
+        long count = countStatements(() -> assertThrows(InvalidRequestException.class,
+                () -> commentService.saveComment(authUser(owner), -1L, new CommentSaveRequest("contents"))));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("담당자 등록은 작성자 조회, 담당자 유저 조회, INSERT 3회")
+    void saveManager() {
+        long count = countStatements(() -> managerService.saveManager(
+                authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId())));
+
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("할일 구성이 캐시되어 있으면 담당자 등록은 담당자 유저 조회, INSERT 2회")
+    void saveManager_membershipCached() {
+        todoMembershipCache.get(todo.getId());
+
+        long count = countStatements(() -> managerService.saveManager(
+                authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId())));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("담당자 목록 조회는 1회")
+    void getManagers() {
+        managerService.saveManager(authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+
+        // 할일 작성자도 담당자로 등록되어 있음
+        long count = countStatements(() -> assertThat(managerService.getManagers(todo.getId())).hasSize(2));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 등록은 인원수와 관계없이 할일 구성 조회, 유저 IN 조회 2회와 JDBC 배치 INSERT")
+    void saveManagers() {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            userIds.add(testEntityManager.persist(new User("bulk" + i + "@test.com", "password", UserRole.USER)).getId());
+        }
+
+        long count = countStatements(() -> managerService.saveManagers(
+                authUser(owner), todo.getId(), new ManagerBulkSaveRequest(userIds)));
+
+        // JdbcTemplate으로 보낸 배치 INSERT는 Hibernate 통계에 포함되지 않음
+        assertThat(count).isEqualTo(2);
+        assertThat(managerService.getManagers(todo.getId())).hasSize(21);
+    }
+
+    @Test
+    @DisplayName("작성자가 아닌 유저의 담당자 등록은 작성자 조회 1회 후 예외")
+    void saveManager_notOwner() {
+        long count = countStatements(() -> assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManager(
+                        authUser(managerUser), todo.getId(), new ManagerSaveRequest(owner.getId()))));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("담당자 삭제는 작성자 조회, DELETE 2회")
+    void deleteManager() {
+        ManagerSaveResponse saved = managerService.saveManager(
+                authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+
+        long count = countStatements(() ->
+                managerService.deleteManager(owner.getId(), todo.getId(), saved.getId()));
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 담당자 삭제는 작성자 조회, DELETE, 존재 확인 3회 후 예외")
+    void deleteManager_managerNotFound() {
+        long count = countStatements(() -> assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(owner.getId(), todo.getId(), -1L)));
+
+        assertThat(count).isEqualTo(3);
+    }
+
+    private long countStatements(Runnable action) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // 서비스가 예외로 끝난 경우 세션을 다시 flush할 수 없으므로, 측정 대상 경로는 스스로 SQL을 실행해야 함
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static AuthUser authUser(User user) {
+        return new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+    }
+}
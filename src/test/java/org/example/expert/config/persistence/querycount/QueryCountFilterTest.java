@@ -0,0 +1,80 @@
+package org.example.expert.config.persistence.querycount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class QueryCountFilterTest {
+
+    private static final String SELECT_USER = "select u1_0.id from users u1_0 where u1_0.id=?";
+
+    @Test
+    @DisplayName("본문을 쓰기 전까지 실행된 SQL 수를 헤더로 내려주고 요청이 끝나면 카운터를 정리")
+    void doFilter_writesQueryCountHeader() throws ServletException, IOException {
+        QueryCountFilter filter = new QueryCountFilter(true, false, 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, (req, res) -> {
+            QueryCountInspector.INSTANCE.inspect("select t1_0.id from todos t1_0");
+            QueryCountInspector.INSTANCE.inspect(SELECT_USER);
+            res.getWriter().write("[]");
+        });
+
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("2");
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("본문이 없는 응답에도 헤더를 붙이고, 헤더를 끄면 붙이지 않음")
+    void doFilter_emptyBodyAndDisabledHeader() throws ServletException, IOException {
+        MockHttpServletResponse withHeader = new MockHttpServletResponse();
+        MockHttpServletResponse withoutHeader = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> QueryCountInspector.INSTANCE.inspect(SELECT_USER);
+
+        new QueryCountFilter(true, false, 5).doFilter(new MockHttpServletRequest(), withHeader, chain);
+        new QueryCountFilter(false, false, 5).doFilter(new MockHttpServletRequest(), withoutHeader, chain);
+
+        assertThat(withHeader.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("1");
+        assertThat(withoutHeader.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("FAIL 모드에서는 예산을 넘는 순간 예외")
+    void doFilter_failMode_throwsWhenOverBudget() {
+        QueryCountFilter filter = new QueryCountFilter(false, true, 5);
+
+        assertThrows(ServerException.class, () -> filter.doFilter(new MockHttpServletRequest(),
+                new MockHttpServletResponse(), (req, res) -> {
+                    QueryCounter.current().setBudget("GET /todos/{todoId}/managers", 1);
+                    QueryCountInspector.INSTANCE.inspect(SELECT_USER);
+                    QueryCountInspector.INSTANCE.inspect(SELECT_USER);
+                }));
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 SQL이 기준 횟수 이상 반복되면 N+1 의심으로 분류")
+    void findRepeated() {
+        QueryCounter counter = QueryCounter.start(false);
+        try {
+            QueryCountInspector.INSTANCE.inspect("select t1_0.id from todos t1_0");
+            for (int i = 0; i < 5; i++) {
+                QueryCountInspector.INSTANCE.inspect(SELECT_USER);
+            }
+        } finally {
+            QueryCounter.end();
+        }
+
+        assertThat(counter.getTotal()).isEqualTo(6);
+        assertThat(counter.findRepeated(5)).containsOnlyKeys(SELECT_USER).containsEntry(SELECT_USER, 5);
+        assertThat(counter.isOverBudget()).isFalse();
+    }
+}
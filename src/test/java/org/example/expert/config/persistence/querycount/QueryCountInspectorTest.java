@@ -0,0 +1,52 @@
+package org.example.expert.config.persistence.querycount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class QueryCountInspectorTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    @DisplayName("할일마다 작성자를 지연 로딩하면 같은 SELECT 반복을 N+1로 감지")
+    void detectsNPlusOne() {
+        for (int i = 0; i < 3; i++) {
+            User user = testEntityManager.persist(new User("user" + i + "@test.com", "password", UserRole.USER));
+            testEntityManager.persist(new Todo("title", "contents", "Sunny", user));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        QueryCounter counter = QueryCounter.start(false);
+        try {
+            List<Todo> todos = todoRepository.findAll();
+            todos.forEach(todo -> todo.getUser().getEmail());
+        } finally {
+            QueryCounter.end();
+        }
+
+        assertThat(counter.getTotal()).isEqualTo(4);
+        assertThat(counter.findRepeated(3)).hasSize(1);
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.config.persistence.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicationRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaDataSourcePool replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = createNode("primary");
+        replica = createNode("replica");
+        replicaPool = new ReplicaDataSourcePool(List.of(replica));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(
+                primary, replicaPool, new ReadYourWritesTracker(Duration.ofSeconds(5))));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica로 라우팅")
+    void readOnlyTransaction_routesToReplica() {
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅")
+    void writeTransaction_routesToPrimary() {
+        // when
+        String node = writeTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 읽기는 primary로 라우팅")
+    void readAfterOwnWrite_routesToPrimary() {
+        // given
+        bindUser(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+
+        // when
+        String ownRead = readOnlyTransaction.execute(status -> currentNode());
+        bindUser(2L);
+        String otherRead = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(ownRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("정상 replica가 없으면 읽기 전용 트랜잭션도 primary로 라우팅")
+    void unhealthyReplica_fallsBackToPrimary() {
+        // given
+        DataSource broken = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        replicaPool = new ReplicaDataSourcePool(List.of(broken));
+        replicaPool.checkHealth();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(
+                primary, replicaPool, new ReadYourWritesTracker(Duration.ofSeconds(5))));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica가 여러 개면 라운드 로빈으로 분산")
+    void multipleReplicas_roundRobin() {
+        // given
+        EmbeddedDatabase secondReplica = createNode("replica-2");
+        replicaPool = new ReplicaDataSourcePool(List.of(replica, secondReplica));
+
+        // when
+        int first = replicaPool.nextHealthyIndex();
+        int second = replicaPool.nextHealthyIndex();
+        int third = replicaPool.nextHealthyIndex();
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(third).isEqualTo(first);
+        secondReplica.shutdown();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private void bindUser(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private EmbeddedDatabase createNode(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table node (name varchar(20))");
+        template.update("insert into node (name) values (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, RoleVersionRegistry.class})
+class RoleVersionRegistryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RoleVersionRegistry roleVersionRegistry;
+
+    @Test
+    @DisplayName("역할이 바뀐 사용자는 이전 버전 토큰을 거부하고, 바뀐 적 없는 사용자는 버전 0 토큰을 허용")
+    void isCurrent_afterRoleChange() {
+        // given
+        User admin = testEntityManager.persist(new User("admin@test.com", "password", UserRole.ADMIN));
+        User user = testEntityManager.persist(new User("user@test.com", "password", UserRole.USER));
+        admin.updateRole(UserRole.USER);
+        testEntityManager.flush();
+
+        // when
+        roleVersionRegistry.refresh();
+
+        // then
+        assertThat(roleVersionRegistry.isCurrent(admin.getId(), 0L)).isFalse();
+        assertThat(roleVersionRegistry.isCurrent(admin.getId(), 1L)).isTrue();
+        assertThat(roleVersionRegistry.isCurrent(user.getId(), 0L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 바뀐 역할 버전을 증분 조회로 반영")
+    void refresh_picksUpChangesAfterWatermark() {
+        // given
+        User user = testEntityManager.persist(new User("user@test.com", "password", UserRole.USER));
+        testEntityManager.flush();
+        roleVersionRegistry.refresh();
+        assertThat(roleVersionRegistry.isCurrent(user.getId(), 0L)).isTrue();
+
+        // when
+        jdbcTemplate.update("update users set role_version = 2, user_role = 'ADMIN', modified_at = current_timestamp "
+                + "where id = ?", user.getId());
+        roleVersionRegistry.refresh();
+
+        // then
+        assertThat(roleVersionRegistry.isCurrent(user.getId(), 1L)).isFalse();
+        assertThat(roleVersionRegistry.isCurrent(user.getId(), 2L)).isTrue();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("첫 적재 전에 바뀐 역할은 DB 조회 없이 반영하고 적재할 때 합침")
+    void update_beforeFirstLoad_keptUntilRefresh() {
+        // given
+        RoleVersionRegistry registry = new RoleVersionRegistry(jdbcTemplate, Duration.ofMinutes(1));
+
+        // when
+        registry.update(Long.MAX_VALUE, 3L);
+
+        // then
+        assertThat(registry.isCurrent(Long.MAX_VALUE, 2L)).isFalse();
+        registry.refresh();
+        assertThat(registry.isCurrent(Long.MAX_VALUE, 2L)).isFalse();
+        assertThat(registry.isCurrent(Long.MAX_VALUE, 3L)).isTrue();
+    }
+}
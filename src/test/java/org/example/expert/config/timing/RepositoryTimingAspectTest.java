@@ -0,0 +1,82 @@
+package org.example.expert.config.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, RepositoryTimingAspect.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+class RepositoryTimingAspectTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("요청 안에서 호출한 리포지토리 메서드마다 db 구간에 더함")
+    void recordsRepositoryCalls() {
+        ServerTiming timing = ServerTiming.start();
+        try {
+            userRepository.findById(1L);
+            userRepository.existsByEmail("a@test.com");
+        } finally {
+            ServerTiming.end();
+        }
+
+        assertThat(timing.getCount(ServerTiming.Phase.DB)).isEqualTo(2);
+        assertThat(timing.getNanos(ServerTiming.Phase.DB)).isPositive();
+    }
+
+    @Test
+    @DisplayName("요청 밖의 리포지토리 호출은 그대로 실행")
+    void outsideRequest() {
+        assertThat(userRepository.findById(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JFR 이벤트에 요청 경로와 사용자를 함께 남김")
+    void recordsRouteAndUserInJfrEvent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/7");
+        request.setAttribute("userId", 7L);
+        Path file = Files.createTempFile("repository-call", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.expert.RepositoryCall");
+            recording.start();
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                userRepository.findById(7L);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("org.example.expert.RepositoryCall"))
+                    .toList();
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).getString("route")).isEqualTo("/users/7");
+            assertThat(events.get(0).getLong("userId")).isEqualTo(7L);
+            assertThat(events.get(0).getString("method")).isEqualTo("findById");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.config.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    @Test
+    @DisplayName("본문을 쓰기 직전까지 기록된 구간을 Server-Timing 헤더로 내려줌")
+    void doFilter_writesServerTimingHeader() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter().doFilter(request, response, (req, res) -> {
+            ServerTiming.record(ServerTiming.Phase.AUTH, TimeUnit.MICROSECONDS.toNanos(400));
+            new ServerTimingInterceptor().preHandle(request, response, new Object());
+            ServerTiming.record(ServerTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(2));
+            ServerTiming.record(ServerTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(1));
+            res.getWriter().write("{}");
+            // 본문을 쓰기 시작한 뒤의 기록은 헤더에 반영되지 않음
+            ServerTiming.record(ServerTiming.Phase.WEATHER, TimeUnit.MILLISECONDS.toNanos(5));
+        });
+
+        String header = response.getHeader(ServerTiming.HEADER);
+        assertThat(header)
+                .startsWith("auth;dur=0.4;desc=\"JWT verification\", app;dur=")
+                .contains("db;dur=3.0;desc=\"Repository x2\"")
+                .doesNotContain("weather")
+                .matches(".*, total;dur=\\d+\\.\\d$");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("본문이 없는 응답에도 total만큼은 헤더로 내려줌")
+    void doFilter_emptyBody() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter().doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+        });
+
+        assertThat(response.getHeader(ServerTiming.HEADER)).matches("total;dur=\\d+\\.\\d");
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 기록하면 무시")
+    void record_outsideRequest() {
+        ServerTiming.record(ServerTiming.Phase.DB, 1_000_000);
+
+        assertThat(ServerTiming.current()).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.config.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TraceIdFilterTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    private final TraceIdFilter traceIdFilter = new TraceIdFilter();
+
+    @Test
+    @DisplayName("유효한 traceparent가 있으면 trace id를 이어 쓰고 새 span id로 응답")
+    void doFilter_reusesIncomingTraceId() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader(TraceContext.TRACEPARENT_HEADER, TRACEPARENT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> traceIdInChain = new AtomicReference<>();
+
+        traceIdFilter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                traceIdInChain.set(TraceContext.currentTraceId());
+            }
+        });
+
+        String traceparent = response.getHeader(TraceContext.TRACEPARENT_HEADER);
+        assertThat(traceIdInChain.get()).isEqualTo(TRACE_ID);
+        assertThat(traceparent).startsWith("00-" + TRACE_ID + "-").endsWith("-01").isNotEqualTo(TRACEPARENT);
+        assertThat(TraceIdFilter.isValid(traceparent)).isTrue();
+        assertThat(MDC.get(TraceContext.TRACE_ID_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("traceparent가 없거나 형식이 틀리면 새 trace id 생성")
+    void doFilter_invalidTraceparent_generatesTraceId() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader(TraceContext.TRACEPARENT_HEADER, "00-" + "0".repeat(32) + "-00f067aa0ba902b7-01");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        traceIdFilter.doFilter(request, response, new MockFilterChain());
+
+        String traceparent = response.getHeader(TraceContext.TRACEPARENT_HEADER);
+        assertThat(TraceIdFilter.isValid(traceparent)).isTrue();
+        assertThat(traceparent.substring(3, 35)).isNotEqualTo("0".repeat(32));
+    }
+
+    @Test
+    @DisplayName("traceparent 형식 검사")
+    void isValid() {
+        assertThat(TraceIdFilter.isValid(TRACEPARENT)).isTrue();
+        assertThat(TraceIdFilter.isValid(TRACEPARENT.toUpperCase())).isFalse();
+        assertThat(TraceIdFilter.isValid("ff" + TRACEPARENT.substring(2))).isFalse();
+        assertThat(TraceIdFilter.isValid("00-" + TRACE_ID + "-0000000000000000-01")).isFalse();
+        assertThat(TraceIdFilter.isValid(TRACEPARENT + "-extra")).isFalse();
+        assertThat(TraceIdFilter.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("wrap으로 감싼 작업은 다른 스레드에서도 제출 시점의 trace id를 봄")
+    void wrap_propagatesMdc() throws InterruptedException {
+        AtomicReference<String> traceIdInThread = new AtomicReference<>();
+        MDC.put(TraceContext.TRACE_ID_KEY, TRACE_ID);
+        Runnable task;
+        try {
+            task = TraceContext.wrap(() -> traceIdInThread.set(TraceContext.currentTraceId()));
+        } finally {
+            MDC.remove(TraceContext.TRACE_ID_KEY);
+        }
+
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        assertThat(traceIdInThread.get()).isEqualTo(TRACE_ID);
+    }
+}
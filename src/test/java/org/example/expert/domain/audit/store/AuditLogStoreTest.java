@@ -0,0 +1,105 @@
+package org.example.expert.domain.audit.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class AuditLogStoreTest {
+
+    private static final long NOW = System.currentTimeMillis();
+
+    @TempDir
+    private Path tempDir;
+
+    private AuditLogStore auditLogStore;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (auditLogStore != null) {
+            auditLogStore.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 범위, userId, URL 조건에 맞는 레코드만 오래된 순으로 조회")
+    void search_filters() throws IOException {
+        auditLogStore = start(DataSize.ofMegabytes(1));
+        auditLogStore.append(NOW, "t1", 1L, "REQUEST", "PATCH", "http://localhost/admin/users/1", "{\"role\":\"ADMIN\"}");
+        auditLogStore.append(NOW + 10, "t1", 1L, "RESPONSE", "PATCH", "http://localhost/admin/users/1", null);
+        auditLogStore.append(NOW + 20, "t2", 2L, "REQUEST", "DELETE", "http://localhost/admin/comments/3", null);
+        auditLogStore.append(NOW + 30, "t3", null, "ERROR", "PATCH", "http://localhost/admin/users/2", "오류");
+
+        List<AuditRecord> byUser = auditLogStore.search(new AuditQuery(NOW, NOW + 100, 1L, null, null, 10));
+        List<AuditRecord> byUrl = auditLogStore.search(new AuditQuery(NOW, NOW + 100, null, null, "/admin/users", 10));
+        List<AuditRecord> byTime = auditLogStore.search(new AuditQuery(NOW + 10, NOW + 30, null, null, null, 10));
+        List<AuditRecord> byTrace = auditLogStore.search(new AuditQuery(NOW, NOW + 100, null, "t2", null, 10));
+
+        assertThat(byUser).extracting(AuditRecord::getPhase).containsExactly("REQUEST", "RESPONSE");
+        assertThat(byUser.get(0).getBody()).isEqualTo("{\"role\":\"ADMIN\"}");
+        assertThat(byUrl).extracting(AuditRecord::getTraceId).containsExactly("t1", "t1", "t3");
+        assertThat(byUrl.get(2).getUserId()).isNull();
+        assertThat(byTime).extracting(AuditRecord::getTimestamp).containsExactly(NOW + 10, NOW + 20);
+        assertThat(byTrace).singleElement().extracting(AuditRecord::getMethod).isEqualTo("DELETE");
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 새 세그먼트로 넘어가고, 재시작 후에도 모든 레코드를 조회하고 이어서 기록")
+    void rotateAndRestart() throws IOException {
+        auditLogStore = start(DataSize.ofKilobytes(4));
+        for (int i = 0; i < 200; i++) {
+            auditLogStore.append(NOW + i, "trace-" + i, (long) (i % 5), "REQUEST", "POST", "/admin/test", "body" + i);
+        }
+        assertThat(auditLogStore.segmentCount()).isGreaterThan(1);
+        auditLogStore.stop();
+
+        auditLogStore = start(DataSize.ofKilobytes(4));
+        auditLogStore.append(NOW + 200, "trace-200", 0L, "REQUEST", "POST", "/admin/test", "body200");
+
+        assertThat(auditLogStore.search(new AuditQuery(NOW, NOW + 1000, null, null, null, 1000))).hasSize(201);
+        assertThat(auditLogStore.search(new AuditQuery(NOW, NOW + 1000, 3L, null, null, 1000))).hasSize(40);
+        assertThat(auditLogStore.search(new AuditQuery(NOW + 150, NOW + 1000, null, null, null, 5)))
+                .extracting(AuditRecord::getTraceId)
+                .containsExactly("trace-150", "trace-151", "trace-152", "trace-153", "trace-154");
+    }
+
+    @Test
+    @DisplayName("시각이 거꾸로 들어온 레코드는 직전 시각으로 보정해 시간순을 유지")
+    void append_outOfOrderTimestamp() throws IOException {
+        auditLogStore = start(DataSize.ofMegabytes(1));
+        auditLogStore.append(NOW + 10, "t1", 1L, "REQUEST", "POST", "/admin/test", null);
+        auditLogStore.append(NOW + 5, "t2", 1L, "REQUEST", "POST", "/admin/test", null);
+
+        assertThat(auditLogStore.search(new AuditQuery(NOW, NOW + 100, null, null, null, 10)))
+                .extracting(AuditRecord::getTimestamp)
+                .containsExactly(NOW + 10, NOW + 10);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 봉인 세그먼트는 교체 시점에 삭제")
+    void rotate_removesExpiredSegments() throws IOException {
+        auditLogStore = start(DataSize.ofKilobytes(4));
+        long expired = NOW - Duration.ofDays(2).toMillis();
+        for (int i = 0; i < 200; i++) {
+            auditLogStore.append(expired + i, "trace-" + i, 1L, "REQUEST", "POST", "/admin/test", "body" + i);
+        }
+
+        assertThat(auditLogStore.segmentCount()).isEqualTo(1);
+        assertThat(auditLogStore.search(new AuditQuery(expired, NOW, null, null, null, 1000)))
+                .hasSizeLessThan(200);
+    }
+
+    private AuditLogStore start(DataSize segmentSize) throws IOException {
+        AuditLogStore store = new AuditLogStore(true, tempDir, segmentSize, Duration.ofDays(1),
+                Duration.ofSeconds(1), DataSize.ofKilobytes(1));
+        store.start();
+        return store;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.auth.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -19,6 +20,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserProfileCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,8 @@ class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private UserProfileCache userProfileCache;
     @InjectMocks
     private AuthService authService;
 
@@ -66,7 +70,7 @@ class AuthServiceTest {
         given(userRepository.save(any(User.class))).willReturn(savedUser);
 
         String expectedToken = "test-jwt-token-string";
-        given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole()))
+        given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole(), 0L))
                 .willReturn(expectedToken);
 
         // when
@@ -79,7 +83,8 @@ class AuthServiceTest {
         verify(userRepository, times(1)).existsByEmail(signupRequest.getEmail());
         verify(userRepository, times(1)).save(any(User.class));
         verify(passwordEncoder, times(1)).encode(signupRequest.getPassword());
-        verify(jwtUtil, times(1)).createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole());
+        verify(jwtUtil, times(1)).createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole(), 0L);
+        verify(userProfileCache).invalidate(savedUser.getId());
     }
 
     @Test
@@ -107,7 +112,7 @@ class AuthServiceTest {
         given(passwordEncoder.matches(signinRequest.getPassword(), savedUser.getPassword())).willReturn(true);
 
         String expectedToken = "test-jwt-token-string";
-        given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole()))
+        given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole(), 0L))
                 .willReturn(expectedToken);
 
         // when
@@ -119,7 +124,7 @@ class AuthServiceTest {
 
         verify(userRepository, times(1)).findByEmail(signinRequest.getEmail());
         verify(passwordEncoder, times(1)).matches(signinRequest.getPassword(), savedUser.getPassword());
-        verify(jwtUtil, times(1)).createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole());
+        verify(jwtUtil, times(1)).createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole(), 0L);
     }
 
     @Test
@@ -136,7 +141,7 @@ class AuthServiceTest {
 
         verify(userRepository, times(1)).findByEmail(signinRequest.getEmail());
         verify(passwordEncoder, never()).matches(any(), any());
-        verify(jwtUtil, never()).createToken(any(), any(), any());
+        verify(jwtUtil, never()).createToken(any(), any(), any(), anyLong());
     }
 
     @Test
@@ -154,7 +159,7 @@ class AuthServiceTest {
 
         verify(userRepository, times(1)).findByEmail(signinRequest.getEmail());
         verify(passwordEncoder, times(1)).matches(signinRequest.getPassword(), savedUser.getPassword());
-        verify(jwtUtil, never()).createToken(any(), any(), any());
+        verify(jwtUtil, never()).createToken(any(), any(), any(), anyLong());
     }
 }
 
@@ -1,7 +1,9 @@
 package org.example.expert.domain.comment.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -10,13 +12,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Collections;
-import java.util.List;
 import org.example.expert.config.security.FilterConfig;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.service.CommentGroupCommitter;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +50,9 @@ class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private CommentGroupCommitter commentGroupCommitter;
+
     private AuthUser authUser;
 
     @BeforeEach
@@ -87,14 +93,17 @@ class CommentControllerTest {
         long todoId = 1L;
         UserResponse userResponse = new UserResponse(authUser.getId(), authUser.getEmail());
         CommentResponse commentResponse = new CommentResponse(1L, "Test Comment", userResponse);
-        List<CommentResponse> responseList = Collections.singletonList(commentResponse);
+        CursorPageResponse<CommentResponse> response =
+                new CursorPageResponse<>(Collections.singletonList(commentResponse), "next");
 
-        given(commentService.getComments(anyLong())).willReturn(responseList);
+        given(commentService.getComments(anyLong(), isNull(), anyInt())).willReturn(response);
 
         // when & then
         mockMvc.perform(get("/todos/{todoId}/comments", todoId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].contents").value("Test Comment"));
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].contents").value("Test Comment"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
     }
 }
@@ -1,61 +1,169 @@
 package org.example.expert.domain.comment.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import org.example.expert.domain.comment.entity.Comment;
+import java.util.function.Consumer;
+import org.example.expert.domain.comment.dto.request.CommentModerationRequest;
+import org.example.expert.domain.comment.repository.ArchivedCommentRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class CommentAdminServiceTest {
 
     private static final Long COMMENT_ID = 1L;
+    private static final int CHUNK_SIZE = 2;
 
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private ArchivedCommentRepository archivedCommentRepository;
+    @Mock
+    private JobRegistry jobRegistry;
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
 
     @InjectMocks
     private CommentAdminService commentAdminService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentAdminService, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(commentAdminService, "chunkPause", Duration.ZERO);
+    }
+
     @Test
     @DisplayName("댓글 삭제 성공")
     void deleteComment_success() {
         // given
-        Comment comment = new Comment("contents", null, null);
-        given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(comment));
+        given(commentRepository.deleteAllByIdIn(List.of(COMMENT_ID))).willReturn(1);
 
         // when
         commentAdminService.deleteComment(COMMENT_ID);
 
         // then
-        verify(commentRepository, times(1)).findById(COMMENT_ID);
-        verify(commentRepository, times(1)).delete(comment);
+        verify(commentRepository, times(1)).deleteAllByIdIn(List.of(COMMENT_ID));
+        verify(archivedCommentRepository, times(1)).deleteAllByIdIn(List.of(COMMENT_ID));
+    }
+
+    @Test
+    @DisplayName("보관 테이블로 옮겨진 댓글도 삭제")
+    void deleteComment_archived() {
+        // given
+        given(commentRepository.deleteAllByIdIn(List.of(COMMENT_ID))).willReturn(0);
+        given(archivedCommentRepository.deleteAllByIdIn(List.of(COMMENT_ID))).willReturn(1);
+
+        // when
+        commentAdminService.deleteComment(COMMENT_ID);
+
+        // then
+        verify(archivedCommentRepository, times(1)).deleteAllByIdIn(List.of(COMMENT_ID));
     }
 
     @Test
     @DisplayName("존재하지 않는 댓글 삭제 시 예외 발생")
     void deleteComment_notFound() {
         // given
-        given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.empty());
+        given(commentRepository.deleteAllByIdIn(List.of(COMMENT_ID))).willReturn(0);
+        given(archivedCommentRepository.deleteAllByIdIn(List.of(COMMENT_ID))).willReturn(0);
 
         // when, then
-        assertThrows(InvalidRequestException.class, () -> {
-            commentAdminService.deleteComment(COMMENT_ID);
-        });
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.deleteComment(COMMENT_ID));
+        assertThat(exception.getMessage()).isEqualTo("Comment not found");
+    }
+
+    @Test
+    @DisplayName("댓글 id 목록 일괄 삭제는 중복을 제거하고 청크 단위로 삭제")
+    void startModeration_byCommentIds_deletesInChunks() {
+        // given
+        Job job = runJobsSynchronously();
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(commentRepository.deleteAllByIdIn(List.of(3L, 4L))).willReturn(0);
+        given(archivedCommentRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(0);
+        given(archivedCommentRepository.deleteAllByIdIn(List.of(3L, 4L))).willReturn(1);
+        CommentModerationRequest request = new CommentModerationRequest(
+                List.of(3L, 1L, 2L, 3L, 4L), null, null, null, null);
+
+        // when
+        commentAdminService.startModeration(request);
+
+        // then
+        assertThat(job.getTotal()).isEqualTo(4);
+        assertThat(job.getProcessed()).isEqualTo(3);
+        verify(commentRepository, times(2)).deleteAllByIdIn(any());
+        verify(archivedCommentRepository, times(2)).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("작성자 기준 일괄 삭제는 id keyset으로 청크를 이어서 삭제하고 보관된 댓글도 삭제")
+    void startModeration_byUser_deletesByKeyset() {
+        // given
+        long userId = 7L;
+        Job job = runJobsSynchronously();
+        given(commentRepository.countByUserId(userId)).willReturn(3L);
+        given(commentRepository.findIdsByUserId(userId, 0L, Limit.of(CHUNK_SIZE))).willReturn(List.of(1L, 2L));
+        given(commentRepository.findIdsByUserId(userId, 2L, Limit.of(CHUNK_SIZE))).willReturn(List.of(5L));
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(commentRepository.deleteAllByIdIn(List.of(5L))).willReturn(1);
+        given(archivedCommentRepository.countByUserId(userId)).willReturn(1L);
+        given(archivedCommentRepository.findIdsByUserId(userId, 0L, Limit.of(CHUNK_SIZE))).willReturn(List.of(9L));
+        given(archivedCommentRepository.deleteAllByIdIn(List.of(9L))).willReturn(1);
+        CommentModerationRequest request = new CommentModerationRequest(null, userId, null, null, null);
 
-        verify(commentRepository, times(1)).findById(COMMENT_ID);
-        verify(commentRepository, never()).delete(any());
+        // when
+        commentAdminService.startModeration(request);
+
+        // then
+        assertThat(job.getTotal()).isEqualTo(4);
+        assertThat(job.getProcessed()).isEqualTo(4);
+        verify(archivedCommentRepository, never()).deleteAllByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 일괄 삭제 작업 조회 시 예외 발생")
+    void getModerationJob_notFound() {
+        // given
+        given(jobRegistry.find("unknown", CommentAdminService.MODERATION_JOB_TYPE)).willReturn(Optional.empty());
+
+        // when, then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.getModerationJob("unknown"));
+        assertThat(exception.getMessage()).isEqualTo("Job not found");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Job runJobsSynchronously() {
+        Job job = new Job("job-1", CommentAdminService.MODERATION_JOB_TYPE);
+        given(jobRegistry.submit(eq(CommentAdminService.MODERATION_JOB_TYPE), any())).willAnswer(invocation -> {
+            invocation.getArgument(1, Consumer.class).accept(job);
+            return job;
+        });
+        return job;
     }
 }
@@ -0,0 +1,112 @@
+package org.example.expert.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, JobRegistry.class, CommentArchiveService.class,
+        CommentService.class, CommentStreamHub.class})
+@TestPropertySource(properties = {
+        "app.comment.archive.enabled=true",
+        "app.comment.archive.min-age=30d",
+        "app.comment.archive.batch-size=2"
+})
+class CommentArchiveServiceTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CommentArchiveService commentArchiveService;
+    @Autowired
+    private CommentService commentService;
+
+    private Todo todo;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = testEntityManager.persist(new User("user@test.com", "password", UserRole.USER));
+        todo = testEntityManager.persist(new Todo("title", "contents", "Sunny", user));
+    }
+
+    @Test
+    @DisplayName("기준 시각보다 오래된 댓글만 보관 테이블로 옮기고 본문은 압축해서 저장")
+    void archive_movesExpiredComments() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        long first = saveComment("a".repeat(200), now.minusDays(90));
+        long second = saveComment("old comment", now.minusDays(60));
+        long third = saveComment("old comment 2", now.minusDays(40));
+        long recent = saveComment("recent comment", now.minusDays(1));
+
+        // when
+        Job job = new Job("job-1", CommentArchiveService.ARCHIVE_JOB_TYPE);
+        commentArchiveService.archive(job);
+
+        // then
+        assertThat(job.getProcessed()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("select id from comments order by id", Long.class))
+                .containsExactly(recent);
+        assertThat(jdbcTemplate.queryForList("select id from comments_archive order by id", Long.class))
+                .containsExactly(first, second, third);
+        byte[] stored = jdbcTemplate.queryForObject(
+                "select contents from comments_archive where id = ?", byte[].class, first);
+        assertThat(stored.length).isLessThan(200);
+        assertThat(CommentContentCodec.decode(stored)).isEqualTo("a".repeat(200));
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 보관된 댓글과 최근 댓글을 이어서 페이지로 조회")
+    void getComments_readsThroughArchive() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        saveComment("archived 1", now.minusDays(90));
+        saveComment("archived 2", now.minusDays(60));
+        saveComment("hot 1", now.minusDays(2));
+        saveComment("hot 2", now.minusDays(1));
+        commentArchiveService.archive(new Job("job-1", CommentArchiveService.ARCHIVE_JOB_TYPE));
+        testEntityManager.clear();
+
+        // when
+        CursorPageResponse<CommentResponse> firstPage = commentService.getComments(todo.getId(), null, 3);
+        CursorPageResponse<CommentResponse> secondPage =
+                commentService.getComments(todo.getId(), firstPage.getNextCursor(), 3);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(CommentResponse::getContents)
+                .containsExactly("archived 1", "archived 2", "hot 1");
+        assertThat(firstPage.getContent().get(0).getUser().getEmail()).isEqualTo("user@test.com");
+        assertThat(secondPage.getContent()).extracting(CommentResponse::getContents)
+                .containsExactly("hot 2");
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    private long saveComment(String contents, LocalDateTime createdAt) {
+        Comment comment = testEntityManager.persistAndFlush(new Comment(contents, user, todo));
+        jdbcTemplate.update("update comments set created_at = ? where id = ?",
+                Timestamp.valueOf(createdAt), comment.getId());
+        return comment.getId();
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.expert.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class CommentGroupCommitterTest {
+
+    private static final long TODO_ID = 1L;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private CommentGroupCommitter commentGroupCommitter;
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("group-commit-" + UUID.randomUUID())
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table todos (id bigint primary key)");
+        jdbcTemplate.execute("create table comments (id bigint auto_increment primary key, contents varchar(255), "
+                + "user_id bigint not null, todo_id bigint not null, created_at timestamp, modified_at timestamp)");
+        jdbcTemplate.update("insert into todos (id) values (?)", TODO_ID);
+
+        commentGroupCommitter = new CommentGroupCommitter(jdbcTemplate, new DataSourceTransactionManager(database),
+                event -> {}, true, 1000, 100, Duration.ofMillis(5), Duration.ofSeconds(5));
+        commentGroupCommitter.start();
+        authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        commentGroupCommitter.stop();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 댓글을 배치로 저장하고 각 요청에 고유한 id를 반환")
+    void saveComment_concurrentRequests() throws Exception {
+        // given
+        int requestCount = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<CommentSaveResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            CommentSaveRequest request = new CommentSaveRequest("comment-" + i);
+            futures.add(executor.submit(() -> commentGroupCommitter.saveComment(authUser, TODO_ID, request)));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Future<CommentSaveResponse> future : futures) {
+            ids.add(future.get().getId());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).doesNotHaveDuplicates().hasSize(requestCount);
+        assertEquals(requestCount, jdbcTemplate.queryForObject("select count(*) from comments", Integer.class));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 할일에 대한 댓글은 해당 요청만 실패")
+    void saveComment_todoNotFound() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentGroupCommitter.saveComment(authUser, 999L, new CommentSaveRequest("orphan")));
+        CommentSaveResponse response = commentGroupCommitter.saveComment(
+                authUser, TODO_ID, new CommentSaveRequest("valid"));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        assertThat(response.getContents()).isEqualTo("valid");
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from comments", Integer.class));
+    }
+
+    @Test
+    @DisplayName("배치에 들어가기 전에 대기 시간이 지나면 취소되어 이후에도 저장되지 않음")
+    void saveComment_timedOutBeforeDrain_neverSaved() throws InterruptedException {
+        // given: flush 간격이 대기 시간보다 길어 쓰기 스레드가 꺼내기 전에 대기 시간이 끝남
+        CommentGroupCommitter slowCommitter = new CommentGroupCommitter(jdbcTemplate,
+                new DataSourceTransactionManager(database), event -> {}, true, 1000, 100,
+                Duration.ofSeconds(10), Duration.ofMillis(50));
+        slowCommitter.start();
+
+        // when
+        ServerException exception = assertThrows(ServerException.class,
+                () -> slowCommitter.saveComment(authUser, TODO_ID, new CommentSaveRequest("late")));
+        // 종료 시 남은 큐를 모두 비우므로 취소되지 않았다면 여기서 저장됨
+        slowCommitter.stop();
+
+        // then
+        assertEquals("댓글 저장 대기 시간이 초과되었습니다.", exception.getMessage());
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from comments", Integer.class));
+    }
+}
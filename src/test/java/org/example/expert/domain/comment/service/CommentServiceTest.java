@@ -10,6 +10,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -17,8 +18,12 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.ArchivedCommentRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -31,6 +36,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -39,11 +47,18 @@ class CommentServiceTest {
     private static final String USER_EMAIL = "test@test.com";
     private static final Long TODO_ID = 1L;
     private static final String COMMENT_CONTENTS = "Test Contents";
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Mock
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ArchivedCommentRepository archivedCommentRepository;
+    @Mock
+    private CommentStreamHub commentStreamHub;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentService commentService;
 
@@ -60,13 +75,15 @@ class CommentServiceTest {
         todo = new Todo("title", "contents", "weather", user);
         comment = new Comment(COMMENT_CONTENTS, user, todo);
         commentSaveRequest = new CommentSaveRequest(COMMENT_CONTENTS);
+        ReflectionTestUtils.setField(commentService, "maxPageSize", MAX_PAGE_SIZE);
     }
 
     @Test
     @DisplayName("댓글 등록 성공")
     public void saveComment_success() {
         // given
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(TODO_ID)).willReturn(true);
+        given(todoRepository.getReferenceById(TODO_ID)).willReturn(todo);
         given(commentRepository.save(any(Comment.class))).willReturn(comment);
 
         // when
@@ -76,15 +93,16 @@ class CommentServiceTest {
         assertNotNull(result);
         assertThat(result.getContents()).isEqualTo(COMMENT_CONTENTS);
         assertThat(result.getUser().getId()).isEqualTo(USER_ID);
-        verify(todoRepository, times(1)).findById(TODO_ID);
+        verify(todoRepository, times(0)).findById(anyLong());
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(eventPublisher, times(1)).publishEvent(any(CommentSavedEvent.class));
     }
 
     @Test
     @DisplayName("댓글 등록 시 할일을 찾지 못하면 예외 발생")
     public void saveComment_todoNotFound_throwsException() {
         // given
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.existsById(TODO_ID)).willReturn(false);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -93,38 +111,141 @@ class CommentServiceTest {
 
         // then
         assertEquals("Todo not found", exception.getMessage());
-        verify(todoRepository, times(1)).findById(TODO_ID);
         verify(commentRepository, times(0)).save(any());
+        verify(eventPublisher, times(0)).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 할일의 댓글 스트림 구독 시 예외 발생")
+    void subscribeComments_todoNotFound_throwsException() {
+        // given
+        given(todoRepository.existsById(TODO_ID)).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.subscribeComments(TODO_ID, null));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verify(commentStreamHub, times(0)).subscribe(anyLong(), any());
     }
 
 
     @Test
-    @DisplayName("댓글 목록 조회 성공")
+    @DisplayName("댓글 목록 첫 페이지 조회 성공")
     void getComments_success() {
         // given
-        given(commentRepository.findByTodoIdWithUser(TODO_ID)).willReturn(Collections.singletonList(comment));
+        given(commentRepository.findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(3)))
+                .willReturn(Collections.singletonList(comment));
 
         // when
-        List<CommentResponse> responses = commentService.getComments(TODO_ID);
+        CursorPageResponse<CommentResponse> responses = commentService.getComments(TODO_ID, null, 2);
 
         // then
-        assertThat(responses).hasSize(1);
-        assertThat(responses.get(0).getContents()).isEqualTo(COMMENT_CONTENTS);
-        assertThat(responses.get(0).getUser().getId()).isEqualTo(USER_ID);
-        verify(commentRepository, times(1)).findByTodoIdWithUser(TODO_ID);
+        assertThat(responses.getContent()).hasSize(1);
+        assertThat(responses.getContent().get(0).getContents()).isEqualTo(COMMENT_CONTENTS);
+        assertThat(responses.getContent().get(0).getUser().getId()).isEqualTo(USER_ID);
+        assertThat(responses.isHasNext()).isFalse();
+        assertThat(responses.getNextCursor()).isNull();
+        verify(commentRepository, times(1)).findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(3));
     }
 
     @Test
     @DisplayName("댓글이 없을 때 빈 목록 조회")
     void getComments_emptyList() {
         // given
-        given(commentRepository.findByTodoIdWithUser(TODO_ID)).willReturn(Collections.emptyList());
+        given(commentRepository.findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(3))).willReturn(Collections.emptyList());
 
         // when
-        List<CommentResponse> responses = commentService.getComments(TODO_ID);
+        CursorPageResponse<CommentResponse> responses = commentService.getComments(TODO_ID, null, 2);
 
         // then
-        assertThat(responses).isEmpty();
-        verify(commentRepository, times(1)).findByTodoIdWithUser(TODO_ID);
+        assertThat(responses.getContent()).isEmpty();
+        verify(commentRepository, times(1)).findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 댓글 위치로 커서를 만들고 그 커서로 이어서 조회")
+    void getComments_nextCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 9, 1, 12, 0, 0, 123456000);
+        Comment first = createComment(10L, createdAt);
+        Comment second = createComment(11L, createdAt);
+        Comment third = createComment(12L, createdAt.plusSeconds(1));
+        given(commentRepository.findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(3)))
+                .willReturn(List.of(first, second, third));
+
+        // when
+        CursorPageResponse<CommentResponse> firstPage = commentService.getComments(TODO_ID, null, 2);
+        commentService.getComments(TODO_ID, firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(CommentResponse::getId).containsExactly(10L, 11L);
+        assertThat(firstPage.isHasNext()).isTrue();
+        verify(commentRepository, times(1)).findNextPageByTodoIdWithUser(TODO_ID, createdAt, 11L, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("요청한 페이지 크기가 최대값을 넘으면 최대값으로 제한")
+    void getComments_sizeCapped() {
+        // given
+        given(commentRepository.findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(MAX_PAGE_SIZE + 1)))
+                .willReturn(Collections.emptyList());
+
+        // when
+        commentService.getComments(TODO_ID, null, 10_000);
+
+        // then
+        verify(commentRepository, times(1)).findFirstPageByTodoIdWithUser(TODO_ID, Limit.of(MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("가장 최근 보관 댓글보다 뒤에서 시작하는 페이지는 보관 테이블을 조회하지 않음")
+    void getComments_cursorAfterLatestArchived_skipsArchive() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new KeysetCursor(now.minusDays(1), 10L).encode();
+        given(archivedCommentRepository.findLatestCreatedAtByTodoId(TODO_ID)).willReturn(Optional.of(now.minusDays(30)));
+        given(commentRepository.findNextPageByTodoIdWithUser(TODO_ID, now.minusDays(1), 10L, Limit.of(3)))
+                .willReturn(Collections.emptyList());
+
+        // when
+        commentService.getComments(TODO_ID, cursor, 2);
+
+        // then
+        verify(archivedCommentRepository, times(0)).findNextPageByTodoIdWithUser(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관된 댓글이 있으면 보관 작업 설정과 관계없이 그 시각까지는 보관 테이블도 조회")
+    void getComments_cursorBeforeLatestArchived_readsArchive() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new KeysetCursor(now.minusDays(1), 10L).encode();
+        given(archivedCommentRepository.findLatestCreatedAtByTodoId(TODO_ID)).willReturn(Optional.of(now.minusDays(1)));
+        given(commentRepository.findNextPageByTodoIdWithUser(TODO_ID, now.minusDays(1), 10L, Limit.of(3)))
+                .willReturn(Collections.emptyList());
+        given(archivedCommentRepository.findNextPageByTodoIdWithUser(TODO_ID, now.minusDays(1), 10L, Limit.of(3)))
+                .willReturn(Collections.emptyList());
+
+        // when
+        commentService.getComments(TODO_ID, cursor, 2);
+
+        // then
+        verify(archivedCommentRepository, times(1)).findNextPageByTodoIdWithUser(TODO_ID, now.minusDays(1), 10L, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생")
+    void getComments_invalidCursor() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> commentService.getComments(TODO_ID, "not-a-cursor", 2));
+    }
+
+    private Comment createComment(Long id, LocalDateTime createdAt) {
+        Comment newComment = new Comment(COMMENT_CONTENTS, user, todo);
+        ReflectionTestUtils.setField(newComment, "id", id);
+        ReflectionTestUtils.setField(newComment, "createdAt", createdAt);
+        return newComment;
     }
 }
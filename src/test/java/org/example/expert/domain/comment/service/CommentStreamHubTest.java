@@ -0,0 +1,234 @@
+package org.example.expert.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class CommentStreamHubTest {
+
+    private static final long TODO_ID = 1L;
+    private static final int BUFFER_SIZE = 4;
+    private static final int REPLAY_SIZE = 3;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private CountDownLatch sendGate;
+    private CommentStreamHub commentStreamHub;
+
+    @BeforeEach
+    void setUp() {
+        sendGate = new CountDownLatch(0);
+        commentStreamHub = new CommentStreamHub(BUFFER_SIZE, REPLAY_SIZE,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), 2) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(sendGate);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendGate.countDown();
+        commentStreamHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 중인 할일에 댓글이 저장되면 이벤트 전달")
+    void onCommentSaved_deliversToSubscriber() {
+        // given
+        commentStreamHub.subscribe(TODO_ID, null);
+
+        // when
+        commentStreamHub.onCommentSaved(event(1L));
+        commentStreamHub.onCommentSaved(event(2L));
+        commentStreamHub.onCommentSaved(new CommentSavedEvent(2L, comment(3L)));
+
+        // then
+        RecordingEmitter emitter = emitters.get(0);
+        waitUntil(() -> emitter.commentIds.size() == 2);
+        assertThat(emitter.commentIds).containsExactly(1L, 2L);
+        assertThat(Long.parseLong(emitter.ids.get(1))).isGreaterThan(Long.parseLong(emitter.ids.get(0)));
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 놓친 이벤트를 다시 전달")
+    void subscribe_withLastEventId_replaysMissedEvents() {
+        // given
+        commentStreamHub.subscribe(TODO_ID, null);
+        commentStreamHub.onCommentSaved(event(1L));
+        commentStreamHub.onCommentSaved(event(2L));
+        commentStreamHub.onCommentSaved(event(3L));
+        RecordingEmitter first = emitters.get(0);
+        waitUntil(() -> first.ids.size() == 3);
+
+        // when
+        commentStreamHub.subscribe(TODO_ID, Long.parseLong(first.ids.get(0)));
+
+        // then
+        RecordingEmitter reconnected = emitters.get(1);
+        waitUntil(() -> reconnected.commentIds.size() == 2);
+        assertThat(reconnected.commentIds).containsExactly(2L, 3L);
+        assertThat(reconnected.ids).containsExactlyElementsOf(first.ids.subList(1, 3));
+        assertThat(reconnected.names).doesNotContain("resync");
+    }
+
+    @Test
+    @DisplayName("id가 큰 댓글이 먼저 발행돼도 재연결하면 뒤이어 발행된 작은 id의 댓글을 놓치지 않음")
+    void subscribe_afterOutOfOrderPublish_replaysLowerCommentId() {
+        // given: 동시에 커밋된 트랜잭션이 id 5, 4 순서로 발행
+        commentStreamHub.subscribe(TODO_ID, null);
+        commentStreamHub.onCommentSaved(event(5L));
+        RecordingEmitter first = emitters.get(0);
+        waitUntil(() -> first.ids.size() == 1);
+        commentStreamHub.onCommentSaved(event(4L));
+
+        // when: 5까지 받은 클라이언트가 재연결
+        commentStreamHub.subscribe(TODO_ID, Long.parseLong(first.ids.get(0)));
+
+        // then
+        RecordingEmitter reconnected = emitters.get(1);
+        waitUntil(() -> reconnected.commentIds.size() == 1);
+        assertThat(reconnected.commentIds).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("토픽이 만들어지기 전의 위치에서 재연결하면 누락 여부를 알 수 없으므로 resync 이벤트 전달")
+    void subscribe_withLastEventIdBeforeTopic_sendsResync() {
+        // when
+        commentStreamHub.subscribe(TODO_ID, 1L);
+
+        // then
+        RecordingEmitter emitter = emitters.get(0);
+        waitUntil(() -> emitter.names.size() == 1);
+        assertThat(emitter.names).containsExactly("resync");
+    }
+
+    @Test
+    @DisplayName("replay 버퍼보다 오래된 위치에서 재연결하면 resync 이벤트를 먼저 전달")
+    void subscribe_withEvictedLastEventId_sendsResync() {
+        // given
+        commentStreamHub.subscribe(TODO_ID, null);
+        RecordingEmitter first = emitters.get(0);
+        // 첫 구독자가 느린 구독자로 끊기지 않도록 하나씩 전달된 뒤 발행
+        for (long id = 1; id <= 5; id++) {
+            commentStreamHub.onCommentSaved(event(id));
+            int delivered = (int) id;
+            waitUntil(() -> first.ids.size() == delivered);
+        }
+
+        // when
+        commentStreamHub.subscribe(TODO_ID, Long.parseLong(first.ids.get(0)));
+
+        // then
+        RecordingEmitter reconnected = emitters.get(1);
+        waitUntil(() -> reconnected.names.size() == 4);
+        assertThat(reconnected.names.get(0)).isEqualTo("resync");
+        assertThat(reconnected.commentIds).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 느린 구독자는 연결을 끊고 다른 구독자에게는 계속 전달")
+    void onCommentSaved_slowSubscriber_isDropped() {
+        // given
+        sendGate = new CountDownLatch(1);
+        commentStreamHub.subscribe(TODO_ID, null);
+        sendGate = new CountDownLatch(0);
+        commentStreamHub.subscribe(TODO_ID, null);
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+
+        // when
+        commentStreamHub.onCommentSaved(event(1L));
+        waitUntil(() -> slow.blocked);
+        for (long id = 2; id <= BUFFER_SIZE + 2; id++) {
+            commentStreamHub.onCommentSaved(event(id));
+            int delivered = (int) id;
+            waitUntil(() -> fast.ids.size() == delivered);
+        }
+
+        // then
+        assertThat(slow.completed).isTrue();
+        assertThat(commentStreamHub.subscriberCount(TODO_ID)).isEqualTo(1);
+        slow.gate.countDown();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static CommentSavedEvent event(long commentId) {
+        return new CommentSavedEvent(TODO_ID, comment(commentId));
+    }
+
+    private static CommentResponse comment(long commentId) {
+        return new CommentResponse(commentId, "contents" + commentId, new UserResponse(1L, "test@test.com"));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate;
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final List<Long> commentIds = new CopyOnWriteArrayList<>();
+        private volatile boolean blocked;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            blocked = true;
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            blocked = false;
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof CommentResponse comment) {
+                    commentIds.add(comment.getId());
+                    continue;
+                }
+                if (!(data.getData() instanceof String text)) {
+                    continue;
+                }
+                for (String line : text.split("\n")) {
+                    if (line.startsWith("event:")) {
+                        names.add(line.substring("event:".length()));
+                    } else if (line.startsWith("id:")) {
+                        ids.add(line.substring("id:".length()));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
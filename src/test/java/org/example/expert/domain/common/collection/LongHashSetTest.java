@@ -0,0 +1,58 @@
+package org.example.expert.domain.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("중복 값은 한 번만 저장")
+    void add_ignoresDuplicates() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.add(5L)).isTrue();
+        assertThat(set.add(5L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.contains(5L)).isTrue();
+        assertThat(set.contains(6L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("0과 음수도 저장 가능")
+    void add_zeroAndNegative() {
+        LongHashSet set = new LongHashSet();
+
+        set.add(0L);
+        set.add(-1L);
+
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("크기가 늘어나도 HashSet과 같은 결과")
+    void add_resizesAndMatchesHashSet() {
+        LongHashSet set = new LongHashSet(1);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(20_000);
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = 0; value < 20_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+        Set<Long> iterated = new HashSet<>();
+        set.forEach(iterated::add);
+        assertThat(iterated).isEqualTo(expected);
+    }
+}
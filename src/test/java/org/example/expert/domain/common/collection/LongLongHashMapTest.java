@@ -0,0 +1,69 @@
+package org.example.expert.domain.common.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("같은 키에 다시 넣으면 값을 덮어씀")
+    void put_overwritesValue() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        map.put(5L, 1L);
+        map.put(5L, 2L);
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.getOrDefault(5L, -1L)).isEqualTo(2L);
+        assertThat(map.getOrDefault(6L, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("0 키도 저장 가능")
+    void put_zeroKey() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        map.put(0L, 7L);
+
+        assertThat(map.getOrDefault(0L, -1L)).isEqualTo(7L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사본을 고쳐도 원본은 바뀌지 않음")
+    void copy_isIndependent() {
+        LongLongHashMap original = new LongLongHashMap();
+        original.put(1L, 1L);
+
+        LongLongHashMap copy = original.copy();
+        copy.put(1L, 2L);
+        copy.put(2L, 3L);
+
+        assertThat(original.getOrDefault(1L, -1L)).isEqualTo(1L);
+        assertThat(original.getOrDefault(2L, -1L)).isEqualTo(-1L);
+        assertThat(copy.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("크기가 늘어나도 HashMap과 같은 결과")
+    void put_resizesAndMatchesHashMap() {
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(5_000);
+            long value = random.nextLong();
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.getOrDefault(key, 0L)).isEqualTo(value));
+    }
+}
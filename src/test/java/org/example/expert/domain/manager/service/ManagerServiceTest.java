@@ -5,15 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.TodoManagerRow;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignmentStatus;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -22,9 +29,12 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +46,10 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoMembershipCache todoMembershipCache;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
     @InjectMocks
     private ManagerService managerService;
 
@@ -43,7 +57,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_InvalidRequestException을_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(managerRepository.findTodoManagerRows(todoId)).willReturn(List.of());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -52,18 +66,15 @@ class ManagerServiceTest {
     }
 
     @Test
-    void todo의_user가_null인_경우_예외가_발생한다() {
+    void todo의_작성자가_아니면_담당자_등록_시_예외가_발생한다() {
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
         long managerUserId = 2L;
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoMembershipCache.get(todoId)).willReturn(Optional.of(membership(3L)));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -71,29 +82,40 @@ class ManagerServiceTest {
         );
 
         assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test // 테스트코드 샘플
     public void manager_목록_조회에_성공한다() {
         // given
         long todoId = 1L;
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        List<TodoManagerRow> rows = List.of(new TodoManagerRow(1L, 10L, 2L, "user1@example.com"));
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findTodoManagerRows(todoId)).willReturn(rows);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
         // then
         assertEquals(1, managerResponses.size());
-        assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertEquals(10L, managerResponses.get(0).getId());
+        assertEquals("user1@example.com", managerResponses.get(0).getUser().getEmail());
+        verify(todoMembershipCache, never()).get(todoId);
+        verify(todoRepository, never()).findById(any());
+    }
+
+    @Test
+    void 담당자가_없는_todo의_manager_목록은_비어있다() {
+        // given
+        long todoId = 1L;
+        given(managerRepository.findTodoManagerRows(todoId))
+                .willReturn(List.of(new TodoManagerRow(1L, null, null, null)));
+
+        // when
+        List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+
+        // then
+        assertEquals(0, managerResponses.size());
     }
 
     @Test // 테스트코드 샘플
@@ -111,7 +133,8 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoMembershipCache.get(todoId)).willReturn(Optional.of(membership(authUser.getId())));
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
         given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -122,5 +145,94 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        verify(todoMembershipCache).invalidate(todoId);
+    }
+
+    @Test
+    void 이미_등록된_담당자를_다시_등록하면_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+        given(todoMembershipCache.get(todoId)).willReturn(Optional.of(membership(authUser.getId(), managerUserId)));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+        assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+        verify(userRepository, never()).findById(any());
+        verify(managerRepository, never()).save(any());
+    }
+
+    @Test
+    void 담당자_삭제_시_다른_일정의_담당자면_예외가_발생한다() {
+        // given
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 10L;
+        given(todoMembershipCache.get(todoId)).willReturn(Optional.of(membership(userId)));
+        given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(0);
+        given(managerRepository.existsById(managerId)).willReturn(true);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(userId, todoId, managerId));
+        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_유저별_처리_결과를_요청_순서대로_반환한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        User newUser = new User("new@test.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(newUser, "id", 4L);
+        User otherNewUser = new User("other@test.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(otherNewUser, "id", 6L);
+
+        given(todoMembershipCache.get(todoId)).willReturn(Optional.of(membership(1L, 2L)));
+        given(userRepository.findAllById(List.of(4L, 5L, 6L))).willReturn(List.of(newUser, otherNewUser));
+        given(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<long[]>>any())).willReturn(new long[]{100L, 101L});
+
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(1L, 2L, 4L, 5L, 4L, 6L));
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId, request);
+
+        // then
+        assertEquals(2, response.getAssignedCount());
+        List<ManagerBulkSaveResponse.Result> results = response.getResults();
+        assertEquals(ManagerAssignmentStatus.OWNER, results.get(0).getStatus());
+        assertEquals(ManagerAssignmentStatus.ALREADY_MANAGER, results.get(1).getStatus());
+        assertEquals(ManagerAssignmentStatus.ASSIGNED, results.get(2).getStatus());
+        assertEquals(100L, results.get(2).getManagerId());
+        assertEquals(ManagerAssignmentStatus.USER_NOT_FOUND, results.get(3).getStatus());
+        assertEquals(ManagerAssignmentStatus.DUPLICATE_IN_REQUEST, results.get(4).getStatus());
+        assertEquals(ManagerAssignmentStatus.ASSIGNED, results.get(5).getStatus());
+        assertEquals(101L, results.get(5).getManagerId());
+        verify(todoMembershipCache).invalidate(todoId);
+    }
+
+    @Test
+    void 작성자가_아니면_담당자_일괄_등록_시_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        long todoId = 1L;
+        given(todoMembershipCache.get(todoId)).willReturn(Optional.of(membership(1L)));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(3L))));
+        assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    private static TodoMembership membership(long ownerId, long... managerUserIds) {
+        List<TodoManagerRow> rows = new ArrayList<>();
+        rows.add(new TodoManagerRow(ownerId, null, null, null));
+        for (long managerUserId : managerUserIds) {
+            rows.add(new TodoManagerRow(ownerId, managerUserId * 10, managerUserId, managerUserId + "@test.com"));
+        }
+        return TodoMembership.from(rows);
     }
 }
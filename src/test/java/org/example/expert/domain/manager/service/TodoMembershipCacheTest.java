@@ -0,0 +1,68 @@
+package org.example.expert.domain.manager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import org.example.expert.domain.manager.dto.TodoManagerRow;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TodoMembershipCacheTest {
+
+    private static final long TODO_ID = 1L;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    private TodoMembershipCache todoMembershipCache;
+
+    @BeforeEach
+    void setUp() {
+        todoMembershipCache = new TodoMembershipCache(managerRepository, 100, Duration.ofMinutes(5));
+        given(managerRepository.findTodoManagerRows(TODO_ID))
+                .willReturn(List.of(new TodoManagerRow(1L, 10L, 2L, "b@b.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션에서 조회한 구성은 캐시에 적재")
+    void get_readWrite_cachesLoadedMembership() {
+        // when
+        todoMembershipCache.get(TODO_ID);
+        TodoMembership membership = todoMembershipCache.get(TODO_ID).orElseThrow();
+
+        // then
+        assertThat(membership.isManager(2L)).isTrue();
+        verify(managerRepository, times(1)).findTodoManagerRows(TODO_ID);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서 조회한 구성은 캐시에 적재하지 않음")
+    void get_readOnly_doesNotCache() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        todoMembershipCache.get(TODO_ID);
+        todoMembershipCache.get(TODO_ID);
+
+        // then
+        verify(managerRepository, times(2)).findTodoManagerRows(TODO_ID);
+    }
+}
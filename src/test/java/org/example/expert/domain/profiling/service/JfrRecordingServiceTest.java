@@ -0,0 +1,79 @@
+package org.example.expert.domain.profiling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.config.security.PasswordEncoder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.profiling.dto.response.JfrRecordingResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JfrRecordingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrRecordingService jfrRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        jfrRecordingService = new JfrRecordingService(directory, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordingService.close();
+    }
+
+    @Test
+    @DisplayName("기록 중 발생한 커스텀 이벤트가 중지 시 덤프한 파일에 남음")
+    void startAndStop_dumpsCustomEvents() throws IOException {
+        jfrRecordingService.start("default", null);
+        new PasswordEncoder().encode("password");
+
+        JfrRecordingResponse response = jfrRecordingService.stop();
+
+        assertEquals("STOPPED", response.getState());
+        assertThat(response.getDumpSize()).isPositive();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(response.getDumpFile())).stream()
+                .filter(event -> event.getEventType().getName().equals("org.example.expert.PasswordHash"))
+                .toList();
+        assertThat(events).hasSize(1);
+        assertEquals("encode", events.get(0).getString("operation"));
+    }
+
+    @Test
+    @DisplayName("이미 기록 중이면 새로 시작할 수 없음")
+    void start_alreadyRunning() {
+        jfrRecordingService.start("default", null);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> jfrRecordingService.start("profile", null));
+        assertEquals("이미 실행 중인 JFR 기록이 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("JDK에 없는 프로필 이름은 거부")
+    void start_unknownProfile() {
+        assertThrows(InvalidRequestException.class, () -> jfrRecordingService.start("../custom", null));
+    }
+
+    @Test
+    @DisplayName("기록 중이 아니면 덤프할 수 없음")
+    void dump_notRunning() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> jfrRecordingService.dump());
+        assertEquals("실행 중인 JFR 기록이 없습니다.", exception.getMessage());
+    }
+}
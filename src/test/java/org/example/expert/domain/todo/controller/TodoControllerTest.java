@@ -4,18 +4,26 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
 import java.util.Collections;
 import org.example.expert.config.security.FilterConfig;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
@@ -83,7 +91,7 @@ class TodoControllerTest {
     void getTodos_success() throws Exception {
         // given
         UserResponse userResponse = new UserResponse(authUser.getId(), authUser.getEmail());
-        TodoResponse todoResponse = new TodoResponse(1L, "Test Title", "Test Contents", "맑음", userResponse, null, null);
+        TodoResponse todoResponse = new TodoResponse(1L, "Test Title", "Test Contents", "맑음", userResponse, null, null, 0L);
         Page<TodoResponse> responsePage = new PageImpl<>(Collections.singletonList(todoResponse));
 
         given(todoService.getTodos(anyInt(), anyInt())).willReturn(responsePage);
@@ -103,7 +111,7 @@ class TodoControllerTest {
         // given
         long todoId = 1L;
         UserResponse userResponse = new UserResponse(authUser.getId(), authUser.getEmail());
-        TodoResponse response = new TodoResponse(todoId, "Test Title", "Test Contents", "맑음", userResponse, null, null);
+        TodoResponse response = new TodoResponse(todoId, "Test Title", "Test Contents", "맑음", userResponse, null, null, 0L);
 
         given(todoService.getTodo(anyLong())).willReturn(response);
 
@@ -113,4 +121,73 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.id").value(todoId))
                 .andExpect(jsonPath("$.title").value("Test Title"));
     }
+
+    @Test
+    @DisplayName("할 일 내보내기 성공")
+    void exportTodos_success() throws Exception {
+        // when & then
+        mockMvc.perform(get("/todos/export")
+                        .requestAttr("userId", authUser.getId())
+                        .requestAttr("userRole", authUser.getUserRole().name())
+                        .requestAttr("email", authUser.getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        verify(todoService, times(1)).exportTodos(any(AuthUser.class), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("할 일 수정 성공")
+    void updateTodo_success() throws Exception {
+        // given
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", null, 0L);
+        given(todoService.updateTodo(any(AuthUser.class), anyLong(), any(TodoUpdateRequest.class)))
+                .willReturn(new TodoUpdateResponse(todoId, 1L));
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", todoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", authUser.getId())
+                        .requestAttr("userRole", authUser.getUserRole().name())
+                        .requestAttr("email", authUser.getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(todoId))
+                .andExpect(jsonPath("$.version").value(1L));
+    }
+
+    @Test
+    @DisplayName("할 일 수정 실패 - 수정할 필드 없음")
+    void updateTodo_fail_noChanges() throws Exception {
+        // given
+        TodoUpdateRequest request = new TodoUpdateRequest(null, null, 0L);
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", authUser.getId())
+                        .requestAttr("userRole", authUser.getUserRole().name())
+                        .requestAttr("email", authUser.getEmail()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("할 일 수정 실패 - 버전 충돌 시 409")
+    void updateTodo_fail_conflict() throws Exception {
+        // given
+        TodoUpdateRequest request = new TodoUpdateRequest(null, "New Contents", 0L);
+        given(todoService.updateTodo(any(AuthUser.class), anyLong(), any(TodoUpdateRequest.class)))
+                .willThrow(new ConflictException("conflict"));
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", authUser.getId())
+                        .requestAttr("userRole", authUser.getUserRole().name())
+                        .requestAttr("email", authUser.getEmail()))
+                .andExpect(status().isConflict());
+    }
 }
@@ -0,0 +1,77 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private User owner;
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        owner = testEntityManager.persist(new User("owner@test.com", "password", UserRole.USER));
+        manager = testEntityManager.persist(new User("manager@test.com", "password", UserRole.USER));
+    }
+
+    @Test
+    @DisplayName("담당 할일은 수정 시각 역순으로 keyset 페이지를 나누고 중복 등록된 담당자는 한 번만 반환")
+    void findManagedPages() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Todo oldest = saveManagedTodo("oldest", now.minusDays(3));
+        Todo sameTimeLower = saveManagedTodo("same-1", now.minusDays(1));
+        Todo sameTimeHigher = saveManagedTodo("same-2", now.minusDays(1));
+        Todo newest = saveManagedTodo("newest", now);
+        testEntityManager.persist(new Manager(manager, newest));
+        testEntityManager.persist(new Todo("not managed", "contents", "Sunny", owner));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        List<Todo> firstPage = todoRepository.findFirstManagedPageWithUser(manager.getId(), Limit.of(2));
+        Todo last = firstPage.get(firstPage.size() - 1);
+        List<Todo> nextPage = todoRepository.findNextManagedPageWithUser(
+                manager.getId(), last.getModifiedAt(), last.getId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).extracting(Todo::getId).containsExactly(newest.getId(), sameTimeHigher.getId());
+        assertThat(nextPage).extracting(Todo::getId).containsExactly(sameTimeLower.getId(), oldest.getId());
+        assertThat(firstPage.get(0).getUser().getEmail()).isEqualTo("owner@test.com");
+    }
+
+    private Todo saveManagedTodo(String title, LocalDateTime modifiedAt) {
+        Todo todo = testEntityManager.persist(new Todo(title, "contents", "Sunny", owner));
+        testEntityManager.persist(new Manager(manager, todo));
+        testEntityManager.flush();
+        // 같은 수정 시각을 만들기 위해 감사 필드를 직접 맞춤
+        jdbcTemplate.update("update todos set modified_at = ? where id = ?", Timestamp.valueOf(modifiedAt), todo.getId());
+        return todo;
+    }
+}
@@ -4,17 +4,30 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -25,7 +38,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -41,6 +56,7 @@ class TodoServiceTest {
     private static final String TODO_TITLE = "Test Title";
     private static final String TODO_CONTENTS = "Test Contents";
     private static final String WEATHER_INFO = "맑음";
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Mock
     private TodoRepository todoRepository;
@@ -48,6 +64,12 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private TodoService todoService;
 
@@ -63,6 +85,7 @@ class TodoServiceTest {
         todoSaveRequest = new TodoSaveRequest(TODO_TITLE, TODO_CONTENTS);
         todo = new Todo(TODO_TITLE, TODO_CONTENTS, WEATHER_INFO, user);
         ReflectionTestUtils.setField(todo, "id", TODO_ID);
+        ReflectionTestUtils.setField(todoService, "maxPageSize", MAX_PAGE_SIZE);
     }
 
     @Test
@@ -107,6 +130,45 @@ class TodoServiceTest {
         verify(todoRepository, times(1)).findAllByOrderByModifiedAtDesc(pageable);
     }
 
+    @Test
+    @DisplayName("담당 할일 조회 시 페이지 크기보다 많으면 마지막 항목 위치로 다음 커서 생성")
+    void getManagedTodos_hasNext() {
+        // given
+        Todo second = new Todo("Second", TODO_CONTENTS, WEATHER_INFO, user);
+        ReflectionTestUtils.setField(second, "id", 2L);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+        given(todoRepository.findFirstManagedPageWithUser(USER_ID, Limit.of(2))).willReturn(List.of(todo, second));
+
+        // when
+        CursorPageResponse<TodoResponse> response = todoService.getManagedTodos(authUser, null, 1);
+
+        // then
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(TODO_ID);
+        assertThat(response.isHasNext()).isTrue();
+        KeysetCursor cursor = KeysetCursor.decode(response.getNextCursor());
+        assertThat(cursor.getTimestamp()).isEqualTo(modifiedAt);
+        assertThat(cursor.getId()).isEqualTo(TODO_ID);
+    }
+
+    @Test
+    @DisplayName("담당 할일 조회 시 커서가 있으면 그 위치 다음부터 조회")
+    void getManagedTodos_withCursor() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = new KeysetCursor(modifiedAt, 5L).encode();
+        given(todoRepository.findNextManagedPageWithUser(USER_ID, modifiedAt, 5L, Limit.of(11)))
+                .willReturn(List.of(todo));
+
+        // when
+        CursorPageResponse<TodoResponse> response = todoService.getManagedTodos(authUser, cursor, 10);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("Todo 단건 조회 성공")
     void getTodo_success() {
@@ -137,4 +199,89 @@ class TodoServiceTest {
 
         verify(todoRepository, times(1)).findByIdWithUser(TODO_ID);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Todo 수정 시 전달한 필드만 바꾸고 flush로 버전을 반영")
+    void updateTodo_success() {
+        // given
+        ReflectionTestUtils.setField(todo, "version", 3L);
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", null, 3L);
+        given(todoRepository.findById(TODO_ID)).willReturn(Optional.of(todo));
+
+        // when
+        TodoUpdateResponse response = todoService.updateTodo(authUser, TODO_ID, request);
+
+        // then
+        assertThat(response.getId()).isEqualTo(TODO_ID);
+        assertThat(todo.getTitle()).isEqualTo("New Title");
+        assertThat(todo.getContents()).isEqualTo(TODO_CONTENTS);
+        verify(todoRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("Todo 수정 시 버전이 다르면 ConflictException 발생")
+    void updateTodo_versionConflict() {
+        // given
+        ReflectionTestUtils.setField(todo, "version", 4L);
+        TodoUpdateRequest request = new TodoUpdateRequest(null, "New Contents", 3L);
+        given(todoRepository.findById(TODO_ID)).willReturn(Optional.of(todo));
+
+        // when, then
+        assertThatThrownBy(() -> todoService.updateTodo(authUser, TODO_ID, request))
+            .isInstanceOf(ConflictException.class);
+        assertThat(todo.getContents()).isEqualTo(TODO_CONTENTS);
+        verify(todoRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("작성자가 아닌 유저가 Todo 수정 시 예외 발생")
+    void updateTodo_notOwner() {
+        // given
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", null, 0L);
+        AuthUser otherUser = new AuthUser(2L, "other@test.com", UserRole.USER);
+        given(todoRepository.findById(TODO_ID)).willReturn(Optional.of(todo));
+
+        // when, then
+        assertThatThrownBy(() -> todoService.updateTodo(otherUser, TODO_ID, request))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("일정을 생성한 유저만 수정할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 Todo 수정 시 예외 발생")
+    void updateTodo_notFound() {
+        // given
+        TodoUpdateRequest request = new TodoUpdateRequest("New Title", null, 3L);
+        given(todoRepository.findById(TODO_ID)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> todoService.updateTodo(authUser, TODO_ID, request))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("Todo not found");
+    }
+
+    @Test
+    @DisplayName("Todo 내보내기 시 한 줄에 하나씩 NDJSON으로 기록")
+    void exportTodos_writesNdjson() throws Exception {
+        // given
+        Todo secondTodo = new Todo("Second Title", TODO_CONTENTS, WEATHER_INFO, user);
+        ReflectionTestUtils.setField(secondTodo, "id", 2L);
+        given(todoRepository.streamAllByUserId(USER_ID)).willReturn(Stream.of(todo, secondTodo));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        todoService.exportTodos(authUser, outputStream);
+
+        // then
+        String output = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(output).endsWith("}\n");
+        String[] lines = output.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{"));
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(TODO_ID);
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Second Title");
+        assertThat(objectMapper.readTree(lines[1]).get("user").get("email").asText()).isEqualTo(USER_EMAIL);
+
+        verify(todoRepository, times(1)).streamAllByUserId(USER_ID);
+    }
+}
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import org.example.expert.config.security.FilterConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
@@ -66,6 +67,20 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.email").value("test@test.com"));
     }
 
+    @Test
+    @DisplayName("여러 사용자 정보 조회 성공")
+    void getUsers_success() throws Exception {
+        // given
+        given(userService.getUsers(List.of(2L, 1L))).willReturn(List.of(
+                new UserResponse(2L, "b@test.com"), new UserResponse(1L, "a@test.com")));
+
+        // when & then
+        mockMvc.perform(get("/users").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(jsonPath("$[1].email").value("a@test.com"));
+    }
+
     @Test
     @DisplayName("비밀번호 변경 성공")
     void changePassword_success() throws Exception {
@@ -0,0 +1,72 @@
+package org.example.expert.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class UserRepositoryTest {
+
+    private static final List<UserRole> ALL_ROLES = List.of(UserRole.values());
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+    private User aliceAdmin;
+    private User underscore;
+
+    @BeforeEach
+    void setUp() {
+        alice = testEntityManager.persist(new User("Alice@Test.com", "password", UserRole.USER));
+        aliceAdmin = testEntityManager.persist(new User("alice.admin@test.com", "password", UserRole.ADMIN));
+        underscore = testEntityManager.persist(new User("al_ice@test.com", "password", UserRole.USER));
+        testEntityManager.persist(new User("bob@test.com", "password", UserRole.USER));
+        testEntityManager.flush();
+    }
+
+    @Test
+    @DisplayName("이메일 접두어 검색은 대소문자를 구분하지 않고 (이메일, id) 순서로 keyset 페이지를 나눔")
+    void findPageByEmailPrefix_caseInsensitiveKeyset() {
+        // 나중에 가입했지만 이메일 순서로는 앞에 오는 사용자
+        User aardvark = testEntityManager.persist(new User("alice.aardvark@test.com", "password", UserRole.USER));
+
+        List<User> firstPage = userRepository.findPageByEmailPrefix("alice%", ALL_ROLES, "", 0L, Limit.of(2));
+        User last = firstPage.get(firstPage.size() - 1);
+        List<User> nextPage = userRepository.findPageByEmailPrefix(
+                "alice%", ALL_ROLES, last.getEmailNormalized(), last.getId(), Limit.of(10));
+
+        assertThat(firstPage).containsExactly(aardvark, aliceAdmin);
+        assertThat(nextPage).containsExactly(alice);
+    }
+
+    @Test
+    @DisplayName("이스케이프한 와일드카드는 문자 그대로 비교")
+    void findPageByEmailPrefix_escapedWildcard() {
+        List<User> users = userRepository.findPageByEmailPrefix("al!_%", ALL_ROLES, "", 0L, Limit.of(10));
+
+        assertThat(users).containsExactly(underscore);
+    }
+
+    @Test
+    @DisplayName("역할 조건만 있으면 해당 역할 사용자만 반환")
+    void findPageByRoles() {
+        List<User> admins = userRepository.findPageByRoles(List.of(UserRole.ADMIN), 0L, Limit.of(10));
+
+        assertThat(admins).containsExactly(aliceAdmin);
+    }
+}
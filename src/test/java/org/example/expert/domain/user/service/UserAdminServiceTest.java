@@ -6,9 +6,14 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.Optional;
+import org.example.expert.config.security.RoleVersionRegistry;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSearchCursor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.AdminUserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -19,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
@@ -29,6 +36,10 @@ class UserAdminServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserProfileCache userProfileCache;
+    @Mock
+    private RoleVersionRegistry roleVersionRegistry;
 
     @InjectMocks
     private UserAdminService userAdminService;
@@ -61,6 +72,8 @@ class UserAdminServiceTest {
         // then
         assertThat(userWithUserRole.getUserRole()).isEqualTo(UserRole.ADMIN);
         verify(userRepository).findById(USER_ID);
+        verify(userProfileCache).invalidate(USER_ID);
+        verify(roleVersionRegistry).update(USER_ID, 1L);
     }
 
     @Test
@@ -109,4 +122,56 @@ class UserAdminServiceTest {
         assertThat(userWithUserRole.getUserRole()).isEqualTo(UserRole.USER);
         verify(userRepository).findById(USER_ID);
     }
+
+    @Test
+    @DisplayName("이메일 접두어는 소문자로 맞추고 LIKE 와일드카드를 이스케이프한다")
+    void toPrefixPattern_escapesWildcards() {
+        assertThat(UserAdminService.toPrefixPattern(" Al_i%ce! ")).isEqualTo("al!_i!%ce!!%");
+    }
+
+    @Test
+    @DisplayName("이메일 검색 결과가 페이지 크기보다 많으면 마지막 (이메일, id)를 다음 커서로 반환한다")
+    void searchUsers_hasNext() {
+
+        // given
+        User first = new User("a@test.com", USER_PASSWORD, UserRole.USER);
+        ReflectionTestUtils.setField(first, "id", 1L);
+        User second = new User("ab@test.com", USER_PASSWORD, UserRole.USER);
+        ReflectionTestUtils.setField(second, "id", 2L);
+        given(userRepository.findPageByEmailPrefix("a%", List.of(UserRole.USER), "", 0L, Limit.of(2)))
+                .willReturn(List.of(first, second));
+        given(userRepository.findPageByEmailPrefix("a%", List.of(UserRole.USER), "a@test.com", 1L, Limit.of(2)))
+                .willReturn(List.of(second));
+
+        // when
+        CursorPageResponse<AdminUserResponse> response = userAdminService.searchUsers("A", "user", null, 1);
+        CursorPageResponse<AdminUserResponse> nextResponse =
+                userAdminService.searchUsers("A", "user", response.getNextCursor(), 1);
+
+        // then
+        assertThat(response.getContent()).extracting(AdminUserResponse::getId).containsExactly(1L);
+        UserSearchCursor cursor = UserSearchCursor.decode(response.getNextCursor());
+        assertThat(cursor.getEmailNormalized()).isEqualTo("a@test.com");
+        assertThat(cursor.getId()).isEqualTo(1L);
+        assertThat(nextResponse.getContent()).extracting(AdminUserResponse::getId).containsExactly(2L);
+        assertThat(nextResponse.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("역할 검색 커서로 이메일 검색을 이어가면 예외가 발생한다")
+    void searchUsers_roleCursorForEmailSearch() {
+        String roleCursor = new UserSearchCursor(1L, null).encode();
+
+        assertThatThrownBy(() -> userAdminService.searchUsers("a", null, roleCursor, 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 커서로 검색하면 예외가 발생한다")
+    void searchUsers_invalidCursor() {
+        assertThatThrownBy(() -> userAdminService.searchUsers(null, null, "abc", 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
 }
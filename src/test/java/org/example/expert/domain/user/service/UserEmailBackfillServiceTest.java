@@ -0,0 +1,62 @@
+package org.example.expert.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, JobRegistry.class, UserEmailBackfillService.class})
+@TestPropertySource(properties = "app.user.email-backfill.batch-size=2")
+class UserEmailBackfillServiceTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserEmailBackfillService userEmailBackfillService;
+
+    @Test
+    @DisplayName("정규화 이메일이 비어 있는 사용자만 청크 단위로 채움")
+    void backfill_fillsMissingNormalizedEmails() {
+        // given
+        long first = persist(" First@Test.com").getId();
+        long second = persist("SECOND@test.com").getId();
+        long third = persist("Third@Test.com").getId();
+        long filled = persist("Filled@Test.com").getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+        jdbcTemplate.update("update users set email_normalized = null where id in (?, ?, ?)", first, second, third);
+
+        // when
+        Job job = new Job("job-1", UserEmailBackfillService.BACKFILL_JOB_TYPE);
+        userEmailBackfillService.backfill(job);
+
+        // then
+        assertThat(job.getProcessed()).isEqualTo(3);
+        assertThat(normalizedEmail(first)).isEqualTo("first@test.com");
+        assertThat(normalizedEmail(second)).isEqualTo("second@test.com");
+        assertThat(normalizedEmail(third)).isEqualTo("third@test.com");
+        assertThat(normalizedEmail(filled)).isEqualTo("filled@test.com");
+    }
+
+    private User persist(String email) {
+        return testEntityManager.persist(new User(email, "password", UserRole.USER));
+    }
+
+    private String normalizedEmail(long userId) {
+        return jdbcTemplate.queryForObject("select email_normalized from users where id = ?", String.class, userId);
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.expert.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.example.expert.config.persistence.PersistenceConfig;
+import org.example.expert.config.security.PasswordEncoder;
+import org.example.expert.domain.common.job.Job;
+import org.example.expert.domain.common.job.JobItemError;
+import org.example.expert.domain.common.job.JobRegistry;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, JobRegistry.class, PasswordEncoder.class, UserImportService.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@TestPropertySource(properties = "app.user.import.chunk-size=2")
+class UserImportServiceTest {
+
+    private static final String PASSWORD = "Password1!";
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserImportService userImportService;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("CSV 가져오기는 유효한 행만 저장하고 나머지는 줄 번호와 함께 오류로 남김")
+    void importUsers_csv() throws IOException {
+        // given
+        testEntityManager.persist(new User("existing@test.com", "password", UserRole.USER));
+        testEntityManager.flush();
+        Path file = write("""
+                email,password,userRole
+                new1@test.com,%1$s,USER
+                "new2@test.com",%1$s,ADMIN
+                new1@test.com,%1$s,USER
+                existing@test.com,%1$s,USER
+                weak@test.com,weak,USER
+
+                "broken@test.com,%1$s,USER
+                new3@test.com,%1$s,USER
+                """.formatted(PASSWORD));
+        Job job = new Job("job-1", UserImportService.IMPORT_JOB_TYPE);
+
+        // when
+        userImportService.importUsers(job, UserImportFormat.CSV, file);
+
+        // then
+        assertThat(job.getTotal()).isEqualTo(7);
+        assertThat(job.getProcessed()).isEqualTo(7);
+        assertThat(job.getFailed()).isEqualTo(4);
+        assertThat(job.getItemErrors()).extracting(JobItemError::getLine).containsExactlyInAnyOrder(4L, 5L, 6L, 8L);
+
+        assertThat(jdbcTemplate.queryForList(
+                "select email from users where email like 'new%' order by email", String.class))
+                .containsExactly("new1@test.com", "new2@test.com", "new3@test.com");
+        assertThat(jdbcTemplate.queryForObject(
+                "select user_role from users where email = 'new2@test.com'", String.class)).isEqualTo("ADMIN");
+        String encoded = jdbcTemplate.queryForObject(
+                "select password from users where email = 'new3@test.com'", String.class);
+        assertThat(passwordEncoder.matches(PASSWORD, encoded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기는 한 줄에 사용자 하나씩 읽음")
+    void importUsers_ndjson() throws IOException {
+        // given
+        Path file = write("""
+                {"email":"a@test.com","password":"%1$s","userRole":"USER"}
+                {"email":"b@test.com","password":"%1$s","userRole":"OWNER"}
+                not json
+                """.formatted(PASSWORD));
+        Job job = new Job("job-1", UserImportService.IMPORT_JOB_TYPE);
+
+        // when
+        userImportService.importUsers(job, UserImportFormat.NDJSON, file);
+
+        // then
+        assertThat(job.getProcessed()).isEqualTo(3);
+        assertThat(job.getItemErrors()).extracting(JobItemError::getKey).containsExactly("b@test.com", null);
+        assertThat(jdbcTemplate.queryForList("select email from users", String.class)).containsExactly("a@test.com");
+    }
+
+    @Test
+    @DisplayName("NDJSON 줄이 null이면 작업을 멈추지 않고 해당 줄만 오류로 남김")
+    void importUsers_ndjsonNullLine() throws IOException {
+        // given
+        Path file = write("""
+                null
+                {"email":"a@test.com","password":"%s","userRole":"USER"}
+                """.formatted(PASSWORD));
+        Job job = new Job("job-1", UserImportService.IMPORT_JOB_TYPE);
+
+        // when
+        userImportService.importUsers(job, UserImportFormat.NDJSON, file);
+
+        // then
+        assertThat(job.getProcessed()).isEqualTo(2);
+        assertThat(job.getItemErrors()).extracting(JobItemError::getLine).containsExactly(1L);
+        assertThat(job.getItemErrors()).extracting(JobItemError::getKey).containsExactly((String) null);
+        assertThat(jdbcTemplate.queryForList("select email from users", String.class)).containsExactly("a@test.com");
+    }
+
+    private Path write(String contents) throws IOException {
+        return Files.writeString(tempDir.resolve("users"), contents, StandardCharsets.UTF_8);
+    }
+}
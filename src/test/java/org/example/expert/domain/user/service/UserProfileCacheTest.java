@@ -0,0 +1,76 @@
+package org.example.expert.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache = new UserProfileCache(userRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 무효화 전까지 저장소를 다시 조회하지 않는다")
+    void get_cachesUntilInvalidated() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "a@test.com")));
+
+        // when
+        userProfileCache.get(1L);
+        userProfileCache.get(1L);
+        userProfileCache.invalidate(1L);
+        Optional<UserResponse> reloaded = userProfileCache.get(1L);
+
+        // then
+        assertThat(reloaded).map(UserResponse::getEmail).contains("a@test.com");
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 조회 시 캐시에 없는 id만 한 번에 조회한다")
+    void getAll_loadsOnlyMisses() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "a@test.com")));
+        given(userRepository.findAllById(Set.of(2L, 3L))).willReturn(List.of(user(2L, "b@test.com")));
+        userProfileCache.get(1L);
+
+        // when
+        Map<Long, UserResponse> users = userProfileCache.getAll(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(users).containsOnlyKeys(1L, 2L);
+        verify(userRepository).findAllById(Set.of(2L, 3L));
+    }
+
+    private static User user(long id, String email) {
+        User user = new User(email, "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -2,13 +2,18 @@ package org.example.expert.domain.user.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 import org.example.expert.config.security.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
@@ -36,6 +41,8 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserProfileCache userProfileCache;
     @InjectMocks
     private UserService userService;
     private User user;
@@ -52,15 +59,15 @@ class UserServiceTest {
     void getUser_success() {
 
         // given
-        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(userProfileCache.get(USER_ID)).willReturn(Optional.of(new UserResponse(USER_ID, USER_EMAIL)));
 
         // when
         UserResponse response = userService.getUser(USER_ID);
 
         // then
-        assertThat(response.getId()).isEqualTo(user.getId());
-        assertThat(response.getEmail()).isEqualTo(user.getEmail());
-        verify(userRepository).findById(USER_ID);
+        assertThat(response.getId()).isEqualTo(USER_ID);
+        assertThat(response.getEmail()).isEqualTo(USER_EMAIL);
+        verify(userProfileCache).get(USER_ID);
     }
 
     @Test
@@ -68,7 +75,7 @@ class UserServiceTest {
     void getUser_userNotFound() {
 
         // given
-        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(userProfileCache.get(anyLong())).willReturn(Optional.empty());
 
         // when, then
         assertThatThrownBy(() -> userService.getUser(USER_ID))
@@ -76,6 +83,36 @@ class UserServiceTest {
                 .hasMessage("사용자를 찾을 수 없습니다.");
     }
 
+    @Test
+    @DisplayName("여러 userId를 요청 순서대로 조회하고 중복과 없는 id는 제외한다")
+    void getUsers_success() {
+
+        // given
+        given(userProfileCache.getAll(Set.of(3L, 1L, 2L))).willReturn(Map.of(
+                1L, new UserResponse(1L, "a@test.com"),
+                3L, new UserResponse(3L, "c@test.com")));
+
+        // when
+        List<UserResponse> response = userService.getUsers(List.of(3L, 1L, 3L, 2L));
+
+        // then
+        assertThat(response).extracting(UserResponse::getId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 수를 넘으면 예외가 발생한다")
+    void getUsers_tooMany() {
+
+        // given
+        List<Long> userIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when, then
+        assertThatThrownBy(() -> userService.getUsers(userIds))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("한 번에 조회할 수 있는 사용자는 최대 100명입니다.");
+        verify(userProfileCache, never()).getAll(anyCollection());
+    }
+
     @Test
     @DisplayName("유저는 비밀번호를 변경할 수 있다")
     void changePassword_success() {
@@ -95,6 +132,7 @@ class UserServiceTest {
         verify(passwordEncoder).matches(OLD_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(passwordEncoder).matches(NEW_PASSWORD, ENCODED_OLD_PASSWORD);
         verify(passwordEncoder).encode(NEW_PASSWORD);
+        verify(userProfileCache).invalidate(USER_ID);
     }
 
     @Test